@@ -0,0 +1,79 @@
+package com.example.decoratemycakebackend.benchmark;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeView;
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크에서 공통으로 사용하는 테스트 데이터. DB 없이 엔티티와 dto를 직접 만든다.
+final class BenchmarkFixtures {
+    static final LocalDate BIRTHDAY = LocalDate.of(2000, 5, 17);
+
+    private BenchmarkFixtures() {
+    }
+
+    static MemberSnapshot member() {
+        return MemberSnapshot.builder()
+                .memberId(1L)
+                .email("bench@test.com")
+                .nickname("벤치마크")
+                .birthday(BIRTHDAY)
+                .roles(List.of("MEMBER"))
+                .build();
+    }
+
+    static List<Candle> candles(int count) {
+        List<Candle> candles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Candle candle = Candle.builder()
+                    .id((long) i + 1)
+                    .name("yellow_candle")
+                    .title("생일축하해! " + i)
+                    .content("캔들 내용 블라블라 " + i)
+                    .writer("writer" + i)
+                    .isPrivate(i % 5 == 0)
+                    .build();
+            candle.setCreatedAt(LocalDate.of(2024, 5, 1).plusDays(i % 16));
+            candles.add(candle);
+        }
+        return candles;
+    }
+
+    static Cake cake(List<Candle> candles) {
+        Cake cake = Cake.builder()
+                .id(1L)
+                .cakeName("blue_cake")
+                .email("bench@test.com")
+                .createdYear(2024)
+                .candleCount(candles.size())
+                .candleCreatePermission(CandleCreatePermission.ANYONE)
+                .candleViewPermission(CandleViewPermission.ANYONE)
+                .candleCountPermission(CandleCountPermission.ANYONE)
+                .build();
+        cake.setCandles(candles);
+        return cake;
+    }
+
+    static CakeView cakeView(List<CandleListDto> candleList) {
+        return CakeView.builder()
+                .nickname("벤치마크")
+                .birthday(BIRTHDAY)
+                .cakeId(1L)
+                .cakeName("blue_cake")
+                .cakeCreatedYear(2024)
+                .candleCount(candleList.size())
+                .candleCreatePermission(CandleCreatePermission.ANYONE)
+                .candleViewPermission(CandleViewPermission.ANYONE)
+                .candleCountPermission(CandleCountPermission.ONLY_ME)
+                .candleList(candleList)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.decoratemycakebackend.benchmark;
+
+import com.example.decoratemycakebackend.global.util.BirthdayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+@State(Scope.Benchmark)
+public class BirthdayUtilBenchmark {
+    private final LocalDate beforeBirthday = LocalDate.of(2024, 3, 2);
+    private final LocalDate afterBirthday = LocalDate.of(2024, 11, 20);
+
+    @Benchmark
+    public LocalDate nextBirthdayThisYear() {
+        return BirthdayUtil.getNextBirthday(beforeBirthday, BenchmarkFixtures.BIRTHDAY);
+    }
+
+    @Benchmark
+    public LocalDate nextBirthdayNextYear() {
+        return BirthdayUtil.getNextBirthday(afterBirthday, BenchmarkFixtures.BIRTHDAY);
+    }
+}
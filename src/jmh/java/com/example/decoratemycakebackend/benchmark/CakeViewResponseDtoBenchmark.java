@@ -0,0 +1,53 @@
+package com.example.decoratemycakebackend.benchmark;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeView;
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewResponseDto;
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 캔들 목록 변환을 포함한 케이크 응답 생성 비용. 캔들 수에 비례하는 부분을 확인한다.
+@State(Scope.Benchmark)
+public class CakeViewResponseDtoBenchmark {
+    @Param({"10", "1000", "50000"})
+    private int candleCount;
+
+    private Cake cake;
+    private MemberSnapshot member;
+    private CakeView cakeView;
+    private List<CandleListDto> candleList;
+
+    @Setup
+    public void setUp() {
+        cake = BenchmarkFixtures.cake(BenchmarkFixtures.candles(candleCount));
+        member = BenchmarkFixtures.member();
+        candleList = cake.getCandles().stream()
+                .map(CandleListDto::from)
+                .collect(Collectors.toList());
+        cakeView = BenchmarkFixtures.cakeView(candleList);
+    }
+
+    // 역대 케이크 목록과 같이 엔티티의 캔들을 dto로 바꾼 뒤 응답을 만드는 경로
+    @Benchmark
+    public CakeViewResponseDto toDtoFromEntity() {
+        List<CandleListDto> candles = cake.getCandles().stream()
+                .map(CandleListDto::from)
+                .collect(Collectors.toList());
+        return CakeViewResponseDto.toDto(cake, member, candles, null);
+    }
+
+    // 캐시된 CakeView로 응답을 만드는 경로
+    @Benchmark
+    public CakeViewResponseDto toDto() {
+        return CakeViewResponseDto.toDto(cakeView, candleList, null);
+    }
+
+    @Benchmark
+    public CakeViewResponseDto toDtoForFriend() {
+        return CakeViewResponseDto.toDtoForFriend(cakeView, candleList, null);
+    }
+}
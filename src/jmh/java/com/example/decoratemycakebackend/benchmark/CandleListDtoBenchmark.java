@@ -0,0 +1,23 @@
+package com.example.decoratemycakebackend.benchmark;
+
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class CandleListDtoBenchmark {
+    private Candle candle;
+
+    @Setup
+    public void setUp() {
+        candle = BenchmarkFixtures.candles(1).get(0);
+    }
+
+    @Benchmark
+    public CandleListDto from() {
+        return CandleListDto.from(candle);
+    }
+}
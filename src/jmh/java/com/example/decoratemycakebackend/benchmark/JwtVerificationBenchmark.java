@@ -0,0 +1,65 @@
+package com.example.decoratemycakebackend.benchmark;
+
+import com.example.decoratemycakebackend.global.auth.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+// 요청마다 토큰을 두 번 검증하던 기존 방식과, 한 번 검증 / 검증 결과 캐시를 사용하는 방식 비교
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "d198050ec738b4fc1736fd70a19194c5ae714c677d0ff1e1a024f6d5edeef30bccea5487c434f3a22f403954cdbad49e5d401fe506803483b46260ce1500939a";
+
+    private Key key;
+    private String token;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = Jwts.builder()
+                .setSubject("bench@test.com")
+                .claim("auth", "ROLE_MEMBER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000L))
+                .signWith(key)
+                .compact();
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 10000);
+    }
+
+    // 기존 필터: validateToken, getAuthentication이 각각 파서를 만들고 서명을 검증
+    @Benchmark
+    public Authentication validateThenParseAgain() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        List<GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new UsernamePasswordAuthenticationToken(new User(claims.getSubject(), "", authorities), "", authorities);
+    }
+
+    // 캐시 없이 공유 파서로 한 번만 검증
+    @Benchmark
+    public Authentication verifyOnceWithSharedParser() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication verifiedCacheHit() {
+        return jwtTokenProvider.authenticate(token);
+    }
+}
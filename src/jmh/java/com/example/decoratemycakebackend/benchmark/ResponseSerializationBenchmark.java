@@ -0,0 +1,40 @@
+package com.example.decoratemycakebackend.benchmark;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeView;
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewResponseDto;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.global.util.ResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 컨트롤러가 반환하는 ResponseDto<CakeViewResponseDto>의 JSON 직렬화 비용
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+    @Param({"10", "1000", "50000"})
+    private int candleCount;
+
+    private ObjectMapper objectMapper;
+    private ResponseDto<CakeViewResponseDto> response;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트가 만드는 ObjectMapper와 같은 기본 설정 (JavaTimeModule, 날짜를 문자열로)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<CandleListDto> candleList = BenchmarkFixtures.candles(candleCount).stream()
+                .map(CandleListDto::from)
+                .collect(Collectors.toList());
+        CakeView cakeView = BenchmarkFixtures.cakeView(candleList);
+        response = new ResponseDto<>("케이크 조회가 완료되었습니다.",
+                CakeViewResponseDto.toDto(cakeView, candleList, "케이크 조회가 완료되었습니다."));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
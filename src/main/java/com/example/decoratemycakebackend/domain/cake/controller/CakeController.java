@@ -24,9 +24,15 @@ public class CakeController {
     private final FriendCakeService friendCakeService;
 
 
-    @Operation(summary = "나의 역대 케이크 전체 조회", description = "각 연도별 케이크 목록 조회")
+    @Operation(summary = "나의 역대 케이크 전체 조회", description = "각 연도별 케이크 목록 조회<br>" +
+            "summary=true이면 캔들 목록 없이 연도별 케이크 정보와 캔들 개수만 반환<br>" +
+            "연도별 캔들 목록은 /cakes/candles로 조회")
     @GetMapping("/list")
-    public ResponseEntity<ResponseDto<?>> getCakes(@RequestParam String email) {
+    public ResponseEntity<ResponseDto<?>> getCakes(@RequestParam String email,
+                                                   @RequestParam(defaultValue = "false") boolean summary) {
+        if (summary) {
+            return ResponseEntity.ok(new ResponseDto<>("나의 역대 케이크 조회가 완료되었습니다.", cakeService.getCakeSummariesByEmail(email)));
+        }
         return ResponseEntity.ok(new ResponseDto<>("나의 역대 케이크 조회가 완료되었습니다.", cakeService.getCakesByEmail(email)));
     }
 
@@ -64,6 +70,35 @@ public class CakeController {
         return ResponseEntity.ok(new ResponseDto<>("케이크 및 캔들 열람이 완료되었습니다.", cakeService.getCakeAndCandles(request)));
     }
 
+    @Operation(summary = "케이크의 캔들 목록 페이지 조회", description = "캔들 id를 커서로 사용하는 페이지 조회<br>" +
+            "첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 cursor로 전달<br>" +
+            "size 기본값 10, 최대 100. 생일까지 남은 기간에 따른 공개 범위는 케이크 열람과 동일<br>" +
+            "단, 지난 해의 케이크는 주인에게 전체 공개")
+    @GetMapping("/candles")
+    public ResponseEntity<ResponseDto<?>> getCandlePage(@Valid @ModelAttribute CakeViewRequestDto request,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(new ResponseDto<>("캔들 목록 조회가 완료되었습니다.", cakeService.getCandlePage(request, cursor, size)));
+    }
+
+    @Operation(summary = "친구들의 당해 케이크 모아보기", description = "친구 목록 순서대로 친구들의 올해 케이크 정보를 커서 기반으로 조회<br>" +
+            "캔들 개수를 공개하지 않은 경우 candleCount는 -1, 캔들 목록 비공개(ONLY_ME)인 경우 candleViewable은 false<br>" +
+            "size 기본값 10, 최대 50")
+    @GetMapping("/friends/dashboard")
+    public ResponseEntity<ResponseDto<?>> getFriendCakeDashboard(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(new ResponseDto<>("친구 케이크 모아보기 조회가 완료되었습니다.", friendCakeService.getFriendCakeDashboard(cursor, size)));
+    }
+
+    @Operation(summary = "친구의 당해 케이크 캔들 목록 페이지 조회", description = "캔들 id를 커서로 사용하는 페이지 조회<br>" +
+            "친구가 설정한 캔들 열람 허용 범위를 따르며, 비공개(ONLY_ME)인 경우 빈 목록이 반환됨")
+    @GetMapping("/friends/candles/{friendEmail}")
+    public ResponseEntity<ResponseDto<?>> getCandlePageForFriend(@PathVariable String friendEmail,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(new ResponseDto<>("친구의 캔들 목록 조회가 완료되었습니다.", friendCakeService.getCandlePageFromSomeone(friendEmail, cursor, size)));
+    }
+
     @Operation(summary = "친구의 당해 케이크와 하위 캔들 정보 열람", description = "친구의 당해 년도 케이크에 대한 정보, 설정, 캔들에 대한 정보 열람 가능<br>" +
             "친구가 케이크 캔들 열람을 비공개했을시(ONLY_ME), candleCount가 -1로 표시됨")
     @GetMapping("/friends/view/{friendEmail}")
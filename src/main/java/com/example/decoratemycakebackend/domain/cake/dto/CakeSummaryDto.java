@@ -0,0 +1,20 @@
+package com.example.decoratemycakebackend.domain.cake.dto;
+
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 역대 케이크 목록의 요약 모드 응답. 캔들 목록 없이 연도별 한 행.
+@Getter
+@AllArgsConstructor
+public class CakeSummaryDto {
+    private Long cakeId;
+    private String cakeName;
+    private Integer cakeCreatedYear;
+    private Integer candleCount;
+    private CandleCreatePermission candleCreatePermission;
+    private CandleViewPermission candleViewPermission;
+    private CandleCountPermission candleCountPermission;
+}
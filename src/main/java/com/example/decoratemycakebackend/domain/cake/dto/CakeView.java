@@ -0,0 +1,66 @@
+package com.example.decoratemycakebackend.domain.cake.dto;
+
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 케이크 열람 화면에 필요한 회원, 케이크, 캔들 정보를 한 번의 쿼리 결과로부터 조립한 읽기 모델
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CakeView {
+    private String nickname;
+    private LocalDate birthday;
+
+    private Long cakeId;
+    private String cakeName;
+    private int cakeCreatedYear;
+    private int candleCount;
+    private CandleCreatePermission candleCreatePermission;
+    private CandleViewPermission candleViewPermission;
+    private CandleCountPermission candleCountPermission;
+    private List<CandleListDto> candleList;
+
+    public boolean hasCake() {
+        return cakeId != null;
+    }
+
+    // 회원 정보는 모든 행에 동일하게 들어있으므로 첫 행에서 꺼내고, 캔들 컬럼이 있는 행만 캔들 목록으로 변환한다.
+    public static CakeView from(List<CakeViewQueryDto> rows) {
+        CakeViewQueryDto first = rows.get(0);
+
+        List<CandleListDto> candleList = new ArrayList<>(rows.size());
+        for (CakeViewQueryDto row : rows) {
+            if (row.getCandleId() != null) {
+                candleList.add(CandleListDto.from(row));
+            }
+        }
+
+        CakeViewBuilder builder = CakeView.builder()
+                .nickname(first.getNickname())
+                .birthday(first.getBirthday())
+                .candleList(candleList);
+
+        if (first.getCakeId() == null) {
+            return builder.build();
+        }
+
+        return builder
+                .cakeId(first.getCakeId())
+                .cakeName(first.getCakeName())
+                .cakeCreatedYear(first.getCakeCreatedYear())
+                .candleCount(first.getCandleCount())
+                .candleCreatePermission(first.getCandleCreatePermission())
+                .candleViewPermission(first.getCandleViewPermission())
+                .candleCountPermission(first.getCandleCountPermission())
+                .build();
+    }
+}
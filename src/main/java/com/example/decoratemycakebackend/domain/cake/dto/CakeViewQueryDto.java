@@ -0,0 +1,33 @@
+package com.example.decoratemycakebackend.domain.cake.dto;
+
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 케이크 열람용 projection. member, cake, candle을 한 줄로 펼친 결과이며 케이크나 캔들이 없으면 해당 컬럼은 null이다.
+@Getter
+@AllArgsConstructor
+public class CakeViewQueryDto {
+    private String nickname;
+    private LocalDate birthday;
+
+    private Long cakeId;
+    private String cakeName;
+    private Integer cakeCreatedYear;
+    private Integer candleCount;
+    private CandleCreatePermission candleCreatePermission;
+    private CandleViewPermission candleViewPermission;
+    private CandleCountPermission candleCountPermission;
+
+    private Long candleId;
+    private String candleName;
+    private String candleTitle;
+    private String candleContent;
+    private LocalDate candleCreatedAt;
+    private String writer;
+    private Boolean isPrivate;
+}
@@ -5,6 +5,7 @@ import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermissio
 import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
 import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
 import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
 import com.example.decoratemycakebackend.domain.member.entity.Member;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,14 +28,14 @@ public class CakeViewResponseDto {
     private CandleViewPermission candleViewPermission;
     private CandleCountPermission candleCountPermission;
 
-    public static CakeViewResponseDto toDto(Cake cake, Member member, List<CandleListDto> candleList, String message) {
+    public static CakeViewResponseDto toDto(Cake cake, MemberSnapshot member, List<CandleListDto> candleList, String message) {
 
         return CakeViewResponseDto.builder()
                 .message(message)
                 .nickname(member.getNickname())
                 .cakeName(cake.getCakeName())
                 .birthday(member.getBirthday().toString())
-                .candleCount(cake.getCandles().size())
+                .candleCount(cake.getCandleCount())
                 .cakeCreatedYear(cake.getCreatedYear())
                 .candleList(candleList)
                 .candleCreatePermission(cake.getCandleCreatePermission())
@@ -43,8 +44,24 @@ public class CakeViewResponseDto {
                 .build();
     }
 
+    public static CakeViewResponseDto toDto(CakeView cakeView, List<CandleListDto> candleList, String message) {
+
+        return CakeViewResponseDto.builder()
+                .message(message)
+                .nickname(cakeView.getNickname())
+                .cakeName(cakeView.getCakeName())
+                .birthday(cakeView.getBirthday().toString())
+                .candleCount(cakeView.getCandleCount())
+                .cakeCreatedYear(cakeView.getCakeCreatedYear())
+                .candleList(candleList)
+                .candleCreatePermission(cakeView.getCandleCreatePermission())
+                .candleViewPermission(cakeView.getCandleViewPermission())
+                .candleCountPermission(cakeView.getCandleCountPermission())
+                .build();
+    }
+
     public static CakeViewResponseDto toDtoForFriend(Cake cake, Member member, List<CandleListDto> candleList, String message) {
-        int candleCount = cake.getCandleCountPermission() == CandleCountPermission.ANYONE ? cake.getCandles().size() : -1;
+        int candleCount = cake.getCandleCountPermission() == CandleCountPermission.ANYONE ? cake.getCandleCount() : -1;
 
         return CakeViewResponseDto.builder()
                 .message(message)
@@ -59,4 +76,21 @@ public class CakeViewResponseDto {
                 .candleCountPermission(cake.getCandleCountPermission())
                 .build();
     }
+
+    public static CakeViewResponseDto toDtoForFriend(CakeView cakeView, List<CandleListDto> candleList, String message) {
+        int candleCount = cakeView.getCandleCountPermission() == CandleCountPermission.ANYONE ? cakeView.getCandleCount() : -1;
+
+        return CakeViewResponseDto.builder()
+                .message(message)
+                .nickname(cakeView.getNickname())
+                .cakeName(cakeView.getCakeName())
+                .birthday(cakeView.getBirthday().toString())
+                .candleCount(candleCount)
+                .cakeCreatedYear(cakeView.getCakeCreatedYear())
+                .candleList(candleList)
+                .candleCreatePermission(cakeView.getCandleCreatePermission())
+                .candleViewPermission(cakeView.getCandleViewPermission())
+                .candleCountPermission(cakeView.getCandleCountPermission())
+                .build();
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.decoratemycakebackend.domain.cake.dto;
+
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendCakeDashboardDto {
+    private Long memberId;
+    private String nickname;
+    private String email;
+    private LocalDate birthday;
+    private String profileImg;
+    private boolean hasCake;
+    private String cakeName;
+    private Integer cakeCreatedYear;
+    // 친구가 캔들 개수를 공개하지 않으면 -1
+    private int candleCount;
+    // 캔들 목록을 열람할 수 있는지. 캔들 목록은 /cakes/friends/candles/{friendEmail}로 조회
+    private boolean candleViewable;
+
+    // 친구 관계는 확인된 상태이므로 ONLY_FRIENDS도 열람 가능, ONLY_ME만 제외한다.
+    public static FriendCakeDashboardDto of(FriendListResponseDto friend, FriendCakeQueryDto cake) {
+        FriendCakeDashboardDtoBuilder builder = FriendCakeDashboardDto.builder()
+                .memberId(friend.getMemberId())
+                .nickname(friend.getNickname())
+                .email(friend.getEmail())
+                .birthday(friend.getBirthday())
+                .profileImg(friend.getProfileImg())
+                .candleCount(-1);
+        if (cake == null) {
+            return builder.hasCake(false).build();
+        }
+        return builder
+                .hasCake(true)
+                .cakeName(cake.getCakeName())
+                .cakeCreatedYear(cake.getCakeCreatedYear())
+                .candleCount(cake.getCandleCountPermission() == CandleCountPermission.ANYONE ? cake.getCandleCount() : -1)
+                .candleViewable(cake.getCandleViewPermission() != CandleViewPermission.ONLY_ME)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.decoratemycakebackend.domain.cake.dto;
+
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 친구 케이크 모아보기에서 여러 친구의 케이크를 한 번에 조회하기 위한 projection
+@Getter
+@AllArgsConstructor
+public class FriendCakeQueryDto {
+    private String email;
+    private Long cakeId;
+    private String cakeName;
+    private Integer cakeCreatedYear;
+    private Integer candleCount;
+    private CandleCreatePermission candleCreatePermission;
+    private CandleViewPermission candleViewPermission;
+    private CandleCountPermission candleCountPermission;
+}
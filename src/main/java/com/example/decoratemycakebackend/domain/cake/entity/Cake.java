@@ -15,6 +15,8 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
+// 회원당 년도별 케이크는 하나. 동시에 생성 요청이 와도 유니크 인덱스가 두 번째 저장을 막는다.
+@Table(indexes = @Index(name = "idx_cake_email_created_year", columnList = "email, created_year", unique = true))
 public class Cake extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -24,6 +26,11 @@ public class Cake extends BaseEntity {
     private String email;
     private String cakeName;
 
+    // 캔들 개수를 세기 위해 캔들 컬렉션을 읽지 않도록 별도로 유지하는 카운터. CandleCountAccumulator가 갱신한다.
+    // 엔티티 저장이 읽어둔 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외하고, 증감 쿼리로만 바꾼다.
+    @Column(nullable = false, updatable = false)
+    private int candleCount;
+
     @Enumerated(EnumType.STRING)
     private CandleCreatePermission candleCreatePermission;
 
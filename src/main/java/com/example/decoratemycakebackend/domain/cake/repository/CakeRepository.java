@@ -1,9 +1,18 @@
 package com.example.decoratemycakebackend.domain.cake.repository;
 
+import com.example.decoratemycakebackend.domain.cake.dto.CakeSummaryDto;
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewQueryDto;
+import com.example.decoratemycakebackend.domain.cake.dto.FriendCakeQueryDto;
 import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,7 +25,54 @@ public interface CakeRepository extends JpaRepository<Cake, Long> {
     @Query("SELECT c FROM Cake c ORDER BY c.createdAt DESC")
     Cake findLatestByCreatedAt();
 
+    // 캔들을 함께 fetch join 하여 케이크마다 캔들을 따로 조회하지 않도록 함
+    @EntityGraph(attributePaths = "candles")
     List<Cake> findAllByMemberEmail(String email);
 
+    // 캔들 개수는 Cake.candleCount를 사용하므로 캔들 테이블을 읽지 않는다.
+    @Query("SELECT new com.example.decoratemycakebackend.domain.cake.dto.CakeSummaryDto(" +
+            "c.id, c.cakeName, c.createdYear, c.candleCount, c.candleCreatePermission, c.candleViewPermission, c.candleCountPermission) " +
+            "FROM Cake c WHERE c.email = :email ORDER BY c.createdYear DESC")
+    List<CakeSummaryDto> findSummariesByEmail(@Param("email") String email);
+
     Optional<Cake> findByEmailAndCreatedYear(String email, int year);
+
+    // 회원, 해당 년도 케이크, 캔들을 한 번의 쿼리로 조회. 회원이 없으면 빈 리스트, 케이크나 캔들이 없으면 해당 컬럼이 null인 한 행을 반환한다.
+    @Query("SELECT new com.example.decoratemycakebackend.domain.cake.dto.CakeViewQueryDto(" +
+            "m.nickname, m.birthday, " +
+            "c.id, c.cakeName, c.createdYear, c.candleCount, c.candleCreatePermission, c.candleViewPermission, c.candleCountPermission, " +
+            "cd.id, cd.name, cd.title, cd.content, cd.createdAt, cd.writer, cd.isPrivate) " +
+            "FROM Member m " +
+            "LEFT JOIN Cake c ON c.email = m.email AND c.createdYear = :year " +
+            "LEFT JOIN c.candles cd " +
+            "WHERE m.email = :email " +
+            "ORDER BY cd.id")
+    List<CakeViewQueryDto> findCakeViewRows(@Param("email") String email, @Param("year") int year);
+
+    // 여러 회원의 해당 년도 케이크를 IN 조건 한 번으로 조회
+    @Query("SELECT new com.example.decoratemycakebackend.domain.cake.dto.FriendCakeQueryDto(" +
+            "c.email, c.id, c.cakeName, c.createdYear, c.candleCount, c.candleCreatePermission, c.candleViewPermission, c.candleCountPermission) " +
+            "FROM Cake c WHERE c.email IN :emails AND c.createdYear = :year")
+    List<FriendCakeQueryDto> findFriendCakes(@Param("emails") List<String> emails, @Param("year") int year);
+
+    // 권한 컬럼만 변경. 엔티티 전체를 저장하면 그 사이 반영된 캔들 개수를 읽어둔 값으로 덮어쓴다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Cake c SET c.candleCreatePermission = :createPermission, c.candleViewPermission = :viewPermission, " +
+            "c.candleCountPermission = :countPermission WHERE c.id = :cakeId")
+    int updatePermissions(@Param("cakeId") Long cakeId,
+                          @Param("createPermission") CandleCreatePermission createPermission,
+                          @Param("viewPermission") CandleViewPermission viewPermission,
+                          @Param("countPermission") CandleCountPermission countPermission);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Cake c SET c.candleCount = c.candleCount + :delta WHERE c.id = :cakeId")
+    int addCandleCount(@Param("cakeId") Long cakeId, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Cake c SET c.candleCount = (SELECT count(cd) FROM Candle cd WHERE cd.cake = c) " +
+            "WHERE c.candleCount <> (SELECT count(cd) FROM Candle cd WHERE cd.cake = c)")
+    int reconcileCandleCounts();
 }
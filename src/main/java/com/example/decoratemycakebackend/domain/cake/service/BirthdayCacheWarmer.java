@@ -0,0 +1,132 @@
+package com.example.decoratemycakebackend.domain.cake.service;
+
+import com.example.decoratemycakebackend.domain.friend.repository.FriendRequestRepository;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.decoratemycakebackend.global.util.BirthdayUtil.getNextBirthday;
+import static com.example.decoratemycakebackend.global.util.BirthdayUtil.toMonthDay;
+
+/**
+ * 오늘, 내일 생일인 회원의 회원 정보, 올해 케이크, 친구들의 회원 정보를 미리 캐시에 올려둔다.
+ * 실시간 요청과 DB를 나눠 쓰므로 회원 한 명을 처리할 때마다 delay만큼 쉬어간다.
+ */
+@Slf4j
+@Component
+public class BirthdayCacheWarmer {
+    private final MemberRepository memberRepository;
+    private final FriendRequestRepository friendRequestRepository;
+    private final MemberCache memberCache;
+    private final CakeViewCache cakeViewCache;
+    private final Duration ttl;
+    private final Duration delay;
+    private final Counter warmedMembers;
+    private final Counter warmedCakeViews;
+    private final Counter warmedFriends;
+    private final Counter failures;
+    private final Timer duration;
+
+    public BirthdayCacheWarmer(MemberRepository memberRepository,
+                               FriendRequestRepository friendRequestRepository,
+                               MemberCache memberCache,
+                               CakeViewCache cakeViewCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${cake.prewarm.ttl:26h}") Duration ttl,
+                               @Value("${cake.prewarm.delay:20ms}") Duration delay) {
+        this.memberRepository = memberRepository;
+        this.friendRequestRepository = friendRequestRepository;
+        this.memberCache = memberCache;
+        this.cakeViewCache = cakeViewCache;
+        this.ttl = ttl;
+        this.delay = delay;
+        this.warmedMembers = meterRegistry.counter("cake.prewarm.warmed", "type", "member");
+        this.warmedCakeViews = meterRegistry.counter("cake.prewarm.warmed", "type", "cakeView");
+        this.warmedFriends = meterRegistry.counter("cake.prewarm.warmed", "type", "friend");
+        this.failures = meterRegistry.counter("cake.prewarm.failures");
+        this.duration = meterRegistry.timer("cake.prewarm.duration");
+    }
+
+    @Scheduled(cron = "${cake.prewarm.cron:0 0 22 * * *}")
+    public void warmUp() {
+        duration.record(() -> warmUp(LocalDate.now()));
+    }
+
+    // 처리한 생일 회원 수를 반환
+    public int warmUp(LocalDate today) {
+        List<Member> birthdayMembers = findBirthdayMembers(today);
+        Set<String> warmedFriendEmails = new HashSet<>();
+        int members = 0;
+        int cakeViews = 0;
+        int friends = 0;
+
+        for (Member member : birthdayMembers) {
+            try {
+                MemberSnapshot snapshot = memberCache.warm(member.getEmail(), ttl);
+                members++;
+                // 다가오는 생일이 속한 연도의 케이크 (12월 31일 기준 내일 생일이면 다음 해)
+                int createdYear = getNextBirthday(today.minusDays(1), member.getBirthday()).getYear();
+                if (cakeViewCache.warm(snapshot.getEmail(), createdYear, ttl)) {
+                    cakeViews++;
+                }
+                // 친구 케이크 열람/캔들 작성 시 권한 확인에 쓰이는 친구들의 회원 정보
+                for (String friendEmail : friendRequestRepository.findFriendEmailsByMemberId(snapshot.getMemberId())) {
+                    if (warmedFriendEmails.add(friendEmail)) {
+                        memberCache.warm(friendEmail, ttl);
+                        friends++;
+                    }
+                }
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Failed to pre-warm birthday caches. email={}", member.getEmail(), e);
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        warmedMembers.increment(members);
+        warmedCakeViews.increment(cakeViews);
+        warmedFriends.increment(friends);
+        log.info("Birthday cache pre-warm finished. birthdayMembers={}, members={}, cakeViews={}, friends={}",
+                birthdayMembers.size(), members, cakeViews, friends);
+        return members;
+    }
+
+    // 생일이 오늘 또는 내일인 회원. 윤년이 아닌 해에는 2월 28일에 2월 29일생도 포함한다.
+    private List<Member> findBirthdayMembers(LocalDate today) {
+        LocalDate tomorrow = today.plusDays(1);
+        List<Integer> monthDays = new ArrayList<>(List.of(toMonthDay(today), toMonthDay(tomorrow)));
+        if (monthDays.contains(228) && !today.isLeapYear()) {
+            monthDays.add(229);
+        }
+        return memberRepository.findByBirthdayMonthDayIn(monthDays).stream()
+                .filter(member -> !getNextBirthday(today.minusDays(1), member.getBirthday()).isAfter(tomorrow))
+                .toList();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
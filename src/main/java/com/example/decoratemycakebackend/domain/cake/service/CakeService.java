@@ -4,18 +4,22 @@ import com.example.decoratemycakebackend.domain.cake.dto.*;
 import com.example.decoratemycakebackend.domain.cake.entity.Cake;
 import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
 import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
-import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.candle.service.CandleService;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
 import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
 import com.example.decoratemycakebackend.global.error.CustomException;
 import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.CursorPageDto;
+import com.example.decoratemycakebackend.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.example.decoratemycakebackend.global.util.BirthdayUtil.getNextBirthday;
@@ -27,11 +31,14 @@ public class CakeService {
     private static final int PAGE_SIZE = 10;
     private final CakeRepository cakeRepository;
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final CandleService candleService;
+    private final CakeViewCache cakeViewCache;
 
     //전체 케이크 email로 가져오는거 creatat 필요없음
     // stream과 정적 팩토리 메서드의 사용으로 코드 개선함
     public List<CakeViewResponseDto> getCakesByEmail(String email) {
-        Member member = getMember(email);
+        MemberSnapshot member = getMember(email);
 
         List<Cake> cakes = cakeRepository.findAllByMemberEmail(email);
 
@@ -46,38 +53,46 @@ public class CakeService {
                 .collect(Collectors.toList());
     }
 
+    // 역대 케이크 요약. 연도별 캔들 목록은 /cakes/candles로 따로 조회한다.
+    public List<CakeSummaryDto> getCakeSummariesByEmail(String email) {
+        getMember(email);
+        return cakeRepository.findSummariesByEmail(email);
+    }
+
     public CakePutResponseDto updateCake(CakePutRequestDto request) {
         String email = request.getEmail();
         validateCurrentEmail(email);
 
-        Member member = getMember(email);
+        MemberSnapshot member = getMember(email);
 
         Cake cake = cakeRepository.findByEmailAndCreatedYear(email, request.getCreatedYear())
                 .orElseThrow(() -> new CustomException(ErrorCode.CAKE_NOT_FOUND));
 
-        // 권한 필드 업데이트
+        // 권한 필드만 업데이트. 캔들 개수는 캔들 저장 쪽에서 따로 증가하므로 엔티티 전체를 저장하지 않는다.
+        cakeRepository.updatePermissions(cake.getId(), request.getCandleCreatePermission(),
+                request.getCandleViewPermission(), request.getCandleCountPermission());
         cake.updatePermissions(request.getCandleCreatePermission(),
                 request.getCandleViewPermission(),
                 request.getCandleCountPermission());
-
-        Cake updatedCake = cakeRepository.save(cake);
+        cakeViewCache.evict(email, cake.getCreatedYear());
 
         return CakePutResponseDto.builder()
-                .cakeName(updatedCake.getCakeName())
-                .candleCreatePermission(updatedCake.getCandleCreatePermission())
-                .candleViewPermission(updatedCake.getCandleViewPermission())
-                .candleCountPermission(updatedCake.getCandleCountPermission())
+                .cakeName(cake.getCakeName())
+                .candleCreatePermission(cake.getCandleCreatePermission())
+                .candleViewPermission(cake.getCandleViewPermission())
+                .candleCountPermission(cake.getCandleCountPermission())
                 .build();
     }
 
     public void deleteCake(CakeDeleteRequestDto request) {
         String email = request.getEmail();
-        Member member = getMember(email);
+        MemberSnapshot member = getMember(email);
 
         Cake cake = cakeRepository.findByEmailAndCreatedYear(email, request.getCakecreatedYear())
                 .orElseThrow(() -> new CustomException(ErrorCode.CAKE_NOT_FOUND));
 
         cakeRepository.delete(cake);
+        cakeViewCache.evict(email, cake.getCreatedYear());
     }
 
     public CakeCreateResponseDto createCake(CakeCreateRequestDto request) {
@@ -86,7 +101,7 @@ public class CakeService {
         String email = request.getEmail();
         validateCurrentEmail(email);
         // 멤버 정보 DB에서 조회
-        Member member = getMember(email);
+        MemberSnapshot member = getMember(email);
 
         // 이미 해당 년도에 생성한 케이크가 있는지 확인
         cakeRepository.findByEmailAndCreatedYear(email, request.getCreatedYear())
@@ -112,42 +127,78 @@ public class CakeService {
 
         // 케이크 정보 생성
         Cake cake = createCake(request, member, email);
-        // DB에 정보 저장후 멤버 정보 업데이트
-        saveCakeAndUpdateMember(cake, member);
+        // DB에 정보 저장. 케이크가 회원을 참조하므로 회원 엔티티는 저장할 필요 없음
+        // 위의 존재 확인 이후 같은 년도의 케이크가 먼저 저장됐다면 유니크 인덱스 위반으로 실패한다.
+        try {
+            cakeRepository.save(cake);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.ALREADY_CREATED_CAKE);
+        }
+        cakeViewCache.evict(email, cake.getCreatedYear());
         // 케이크 설정 정보 생성
-        return createCakeCreateResponseDto(cake);
+        return createCakeCreateResponseDto(cake, member);
     }
 
     public CakeViewResponseDto getCakeAndCandles(CakeViewRequestDto request) {
         // 친구의 케이크를 조회할 수도 있으므로 로그인 한 유저의 이메일과 일치 여부 확인하지 않음
-        String email = request.getEmail();
-
-        Member member = getMember(email);
-        Optional<Cake> cake = cakeRepository.findByEmailAndCreatedYear(email, request.getCreatedYear());
+        // 회원, 케이크, 캔들 정보를 캐시 또는 한 번의 쿼리로 가져온다.
+        CakeView cakeView = cakeViewCache.get(request.getEmail(), request.getCreatedYear());
 
         // 생일까지 남은기간 계산
         LocalDate today = LocalDate.now();
-        LocalDate birthday = member.getBirthday();
+        LocalDate birthday = cakeView.getBirthday();
         LocalDate nextBirthday = getNextBirthday(today, birthday);
         long daysUntilBirthday = ChronoUnit.DAYS.between(today, nextBirthday);
         int age = nextBirthday.getYear() - birthday.getYear();
 
-        if (isBirthdayToday(daysUntilBirthday)) {
-            return buildBirthdayCakeViewResponseDto(member, age, cake);
+        if (isBirthdayToday(today, birthday)) {
+            return buildBirthdayCakeViewResponseDto(cakeView, age);
         } else {
-            return buildBeforeBirthdayCakeViewResponseDto(member, birthday, age, daysUntilBirthday, cake);
+            return buildBeforeBirthdayCakeViewResponseDto(cakeView, birthday, age, daysUntilBirthday);
         }
     }
 
-    private Member getMember(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    // 캔들 목록만 커서 단위로 나눠서 조회. 올해 케이크는 케이크 열람과 동일하게 생일까지 남은 기간에 따라 공개 범위가 달라진다.
+    public CursorPageDto<CandleListDto> getCandlePage(CakeViewRequestDto request, String cursor, Integer size) {
+        String email = request.getEmail();
+        MemberSnapshot member = getMember(email);
+
+        Cake cake = cakeRepository.findByEmailAndCreatedYear(email, request.getCreatedYear())
+                .orElseThrow(() -> new CustomException(ErrorCode.CAKE_NOT_FOUND));
+
+        int pageSize = size == null ? PAGE_SIZE : size;
+        LocalDate today = LocalDate.now();
+        // 오늘이 생일이면 올해, 아니면 다가오는 생일의 연도
+        int birthdayYear = getNextBirthday(today.minusDays(1), member.getBirthday()).getYear();
+
+        // 생일이 이미 지난 해의 케이크는 주인에게 전부 공개
+        if (request.getCreatedYear() < birthdayYear && email.equals(SecurityUtil.getCurrentUserEmail())) {
+            return candleService.getCandlePage(cake.getId(), cursor, pageSize);
+        }
+
+        long daysUntilBirthday = ChronoUnit.DAYS.between(today, getNextBirthday(today, member.getBirthday()));
+
+        if (isBirthdayToday(today, member.getBirthday())) {
+            return candleService.getCandlePage(cake.getId(), cursor, pageSize);
+        }
+        // D-30보다 많이 남은 경우 캔들을 보여주지 않음
+        if (daysUntilBirthday > 30) {
+            return CursorPageDto.empty();
+        }
+        // 생일 전에는 캔들 이름과 작성자만 공개
+        return candleService.getCandlePage(cake.getId(), cursor, pageSize)
+                .map(this::toPartialCandleInfo);
     }
 
-    private Cake createCake(CakeCreateRequestDto request, Member member, String email) {
+    private MemberSnapshot getMember(String email) {
+        return memberCache.getByEmail(email);
+    }
+
+    private Cake createCake(CakeCreateRequestDto request, MemberSnapshot member, String email) {
         return Cake.builder()
                 .cakeName(request.getCakeName())
-                .member(member)
+                // 연관관계에는 id만 필요하므로 회원을 다시 조회하지 않고 프록시를 사용
+                .member(memberRepository.getReferenceById(member.getMemberId()))
                 .email(email)
                 .createdYear(request.getCreatedYear())
                 .candleCreatePermission(request.getCandleCreatePermission())
@@ -157,13 +208,7 @@ public class CakeService {
                 .build();
     }
 
-    private void saveCakeAndUpdateMember(Cake cake, Member member) {
-        cakeRepository.save(cake);
-        member.getCakes().add(cake);
-        memberRepository.save(member);
-    }
-
-    private CakeCreateResponseDto createCakeCreateResponseDto(Cake cake) {
+    private CakeCreateResponseDto createCakeCreateResponseDto(Cake cake, MemberSnapshot member) {
         return CakeCreateResponseDto.builder()
                 .candleCreatePermission(cake.getCandleCreatePermission())
                 .candleViewPermission(cake.getCandleViewPermission())
@@ -171,70 +216,74 @@ public class CakeService {
                 .cakeName(cake.getCakeName())
                 .cakeCreatedYear(cake.getCreatedYear())
                 .candleList(cake.getCandles())
-                .nickname(cake.getMember().getNickname())
+                .nickname(member.getNickname())
                 .build();
     }
 
 
-    private boolean isBirthdayToday(long daysUntilBirthday) {
-        return daysUntilBirthday == 365;
+    // 다음 생일까지 남은 일수는 윤년에 따라 365일 또는 366일이므로 날짜로 비교한다.
+    private boolean isBirthdayToday(LocalDate today, LocalDate birthday) {
+        return getNextBirthday(today.minusDays(1), birthday).equals(today);
     }
 
 
-    private CakeViewResponseDto buildBirthdayCakeViewResponseDto(Member member, int age, Optional<Cake> cakeOptional) {
-        return cakeOptional.map(cake -> {
-            List<CandleListDto> candleList = cake.getCandles().stream()
-                    .map(CandleListDto::from)
-                    .collect(Collectors.toList());
-
-            return CakeViewResponseDto.toDto(cake, member, candleList, getBirthdayMessage(member, age));
-        //    케이크 없으면 만들도록 유도
-        }).orElse(buildRecommendToCreateCakeDto(member, age));
+    private CakeViewResponseDto buildBirthdayCakeViewResponseDto(CakeView cakeView, int age) {
+        if (cakeView.hasCake()) {
+            return CakeViewResponseDto.toDto(cakeView, cakeView.getCandleList(), getBirthdayMessage(cakeView.getNickname(), age));
+        }
+        // 케이크 없으면 만들도록 유도
+        return buildRecommendToCreateCakeDto(cakeView, age);
     }
 
-    private CakeViewResponseDto buildRecommendToCreateCakeDto(Member member, int age) {
+    private CakeViewResponseDto buildRecommendToCreateCakeDto(CakeView cakeView, int age) {
         return CakeViewResponseDto.builder()
-                .nickname(member.getNickname())
-                .birthday(member.getBirthday().toString())
-                .message(member.getNickname() + "님의 " + age + "살 생일 케이크를 만들어 보세요!")
+                .nickname(cakeView.getNickname())
+                .birthday(cakeView.getBirthday().toString())
+                .message(cakeView.getNickname() + "님의 " + age + "살 생일 케이크를 만들어 보세요!")
                 .build();
     }
 
-    private CakeViewResponseDto buildBeforeBirthdayCakeViewResponseDto(Member member, LocalDate birthday, int age, long daysUntilBirthday, Optional<Cake> cakeOptional) {
+    private CakeViewResponseDto buildBeforeBirthdayCakeViewResponseDto(CakeView cakeView, LocalDate birthday, int age, long daysUntilBirthday) {
 
         // D-Day가 30일보다 많이 남은경우, D-day 남은 날짜 반환
         if (daysUntilBirthday > 30) {
-            return buildDDayMessageDto(cakeOptional, member, birthday, daysUntilBirthday);
+            return buildDDayMessageDto(cakeView, birthday, daysUntilBirthday);
         }
         // D-Day가 30일 이하로 남은 경우
         // 케이크 만든게 있다면 케이크의 일부 데이터만 반환
-        return cakeOptional.map(cake -> buildCakeWithPartialCandleInfoDto(member, cake))
-                // 케이크 안 만들었다면 케이크 만들도록 유도
-                .orElse(buildRecommendToCreateCakeDto(member, age));
+        if (cakeView.hasCake()) {
+            return buildCakeWithPartialCandleInfoDto(cakeView);
+        }
+        // 케이크 안 만들었다면 케이크 만들도록 유도
+        return buildRecommendToCreateCakeDto(cakeView, age);
     }
 
-    private CakeViewResponseDto buildDDayMessageDto(Optional<Cake> cake, Member member, LocalDate birthday, long daysUntilBirthday) {
+    private CakeViewResponseDto buildDDayMessageDto(CakeView cakeView, LocalDate birthday, long daysUntilBirthday) {
         // D-30보다 많이 남은 경우, 케이크 생성이 안되는 것이 정상임.
         return CakeViewResponseDto.builder()
-                .nickname(member.getNickname())
+                .nickname(cakeView.getNickname())
                 .birthday(birthday.toString())
                 .message("생일까지 D-" + daysUntilBirthday + " 남았습니다. 케이크 생성은 생일 D-30일부터 가능합니다.")
                 .build();
     }
 
-    private CakeViewResponseDto buildCakeWithPartialCandleInfoDto(Member member, Cake cake) {
-        // from을 쓰지 않고 일부 데이터만 꺼내오기
-        List<CandleListDto> candleListDto = cake.getCandles().stream()
-                .map(candle -> CandleListDto.builder()
-                        .candleName(candle.getName())
-                        .writer(candle.getWriter())
-                        .build())
+    private CakeViewResponseDto buildCakeWithPartialCandleInfoDto(CakeView cakeView) {
+        // 전체 캔들 정보 중 일부 데이터만 꺼내오기
+        List<CandleListDto> candleListDto = cakeView.getCandleList().stream()
+                .map(this::toPartialCandleInfo)
                 .collect(Collectors.toList());
 
-        return CakeViewResponseDto.toDto(cake, member, candleListDto, null);
+        return CakeViewResponseDto.toDto(cakeView, candleListDto, null);
+    }
+
+    private CandleListDto toPartialCandleInfo(CandleListDto candle) {
+        return CandleListDto.builder()
+                .candleName(candle.getCandleName())
+                .writer(candle.getWriter())
+                .build();
     }
 
-    private String getBirthdayMessage(Member member, int age) {
-        return member.getNickname() + "님의 " + age + "살 생일을 축하합니다!!";
+    private String getBirthdayMessage(String nickname, int age) {
+        return nickname + "님의 " + age + "살 생일을 축하합니다!!";
     }
 }
\ No newline at end of file
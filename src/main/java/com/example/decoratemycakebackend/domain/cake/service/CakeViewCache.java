@@ -0,0 +1,211 @@
+package com.example.decoratemycakebackend.domain.cake.service;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeView;
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewQueryDto;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.global.cache.CacheStats;
+import com.example.decoratemycakebackend.global.cache.SingleFlight;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.TransactionUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * (email, 년도) 단위 케이크 열람 정보를 Redis에 보관하는 read-through 캐시.
+ * 케이크 설정 변경, 생성, 삭제와 캔들 개수 반영 시점에 해당 키만 제거한다.
+ * 캐시 키를 케이크 id로도 찾을 수 있도록 케이크 id -> 캐시 키 별칭을 함께 저장한다.
+ * Redis 장애 시에는 캐시를 건너뛰고 DB에서 바로 조회한다.
+ * 같은 키에 대한 동시 미스는 SingleFlight로 합쳐서 한 요청만 DB를 조회한다.
+ *
+ * 제거는 커밋 이후에 하고, 키마다 버전을 올린다. 미스 시 DB 조회 전에 읽은 버전이 저장 시점까지 그대로일 때만 저장하므로,
+ * 변경 커밋 전에 읽은 값이 제거 뒤에 다시 저장되어 TTL 동안 남는 일이 없다.
+ */
+@Slf4j
+@Component
+public class CakeViewCache {
+    private static final String KEY_PREFIX = "cake:view:";
+    private static final String CAKE_ID_KEY_PREFIX = "cake:view-alias:";
+    private static final String VERSION_KEY_PREFIX = "cake:view-version:";
+    // 버전 키는 가장 긴 캐시 TTL(미리 채우기 26시간)보다 오래 유지
+    private static final Duration VERSION_TTL = Duration.ofDays(2);
+
+    // 조회 전에 읽은 버전이 그대로일 때만 값과 케이크 id 별칭을 저장
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            if #KEYS > 2 then
+                redis.call('SET', KEYS[3], KEYS[1], 'PX', ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    // 버전을 올린 뒤 값을 제거. 진행 중이던 미스는 이전 버전을 들고 있으므로 저장하지 못한다.
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CakeRepository cakeRepository;
+    private final Duration ttl;
+    private final boolean enabled;
+    private final SingleFlight<String, CakeView> singleFlight;
+    @Getter
+    private final CacheStats stats = new CacheStats();
+
+    public CakeViewCache(RedisTemplate<String, Object> redisTemplate,
+                         ObjectMapper objectMapper,
+                         CakeRepository cakeRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${cake.view-cache.ttl:10m}") Duration ttl,
+                         @Value("${cake.view-cache.enabled:true}") boolean enabled,
+                         @Value("${cake.view-cache.load-timeout:3s}") Duration loadTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cakeRepository = cakeRepository;
+        this.ttl = ttl;
+        this.enabled = enabled;
+        this.singleFlight = new SingleFlight<>(loadTimeout);
+        stats.bindTo(meterRegistry, "cakeView");
+        singleFlight.bindTo(meterRegistry, "cakeView");
+    }
+
+    public CakeView get(String email, int createdYear) {
+        String key = key(email, createdYear);
+
+        if (enabled) {
+            CakeView cached = read(key);
+            if (cached != null) {
+                stats.recordHit();
+                return cached;
+            }
+            stats.recordMiss();
+        }
+
+        return singleFlight.load(key, () -> {
+            String version = enabled ? readVersion(key) : null;
+            CakeView cakeView = load(email, createdYear);
+            if (version != null) {
+                write(key, version, cakeView, ttl);
+            }
+            return cakeView;
+        });
+    }
+
+    // DB에서 다시 읽어 ttl 동안 유지되도록 저장한다. 캐시를 쓰지 않는 설정이면 아무것도 하지 않는다.
+    public boolean warm(String email, int createdYear, Duration ttl) {
+        if (!enabled) {
+            return false;
+        }
+        String key = key(email, createdYear);
+        String version = readVersion(key);
+        CakeView cakeView = load(email, createdYear);
+        if (version != null) {
+            write(key, version, cakeView, ttl);
+        }
+        return cakeView.hasCake();
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 제거한다.
+    public void evict(String email, int createdYear) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> delete(key(email, createdYear)));
+    }
+
+    public void evictByCakeId(Long cakeId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            try {
+                Object key = redisTemplate.opsForValue().getAndDelete(CAKE_ID_KEY_PREFIX + cakeId);
+                if (key != null) {
+                    delete(key.toString());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to evict cake view. cakeId={}", cakeId, e);
+            }
+        });
+    }
+
+    // 회원, 케이크, 캔들 정보를 한 번의 쿼리로 가져온다.
+    private CakeView load(String email, int createdYear) {
+        List<CakeViewQueryDto> rows = cakeRepository.findCakeViewRows(email, createdYear);
+        if (rows.isEmpty()) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        return CakeView.from(rows);
+    }
+
+    private CakeView read(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value.toString(), CakeView.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read cake view cache. key={}", key, e);
+            return null;
+        }
+    }
+
+    // 현재 버전. 제거된 적 없는 키는 "0", Redis 오류 시 null이며 이때는 저장하지 않는다.
+    private String readVersion(String key) {
+        try {
+            Object version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + key);
+            return version == null ? "0" : version.toString();
+        } catch (DataAccessException e) {
+            log.warn("Failed to read cake view version. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void write(String key, String version, CakeView cakeView, Duration ttl) {
+        try {
+            List<String> keys = cakeView.hasCake()
+                    ? List.of(key, VERSION_KEY_PREFIX + key, CAKE_ID_KEY_PREFIX + cakeView.getCakeId())
+                    : List.of(key, VERSION_KEY_PREFIX + key);
+            Long written = redisTemplate.execute(WRITE_SCRIPT, keys,
+                    version, objectMapper.writeValueAsString(cakeView), String.valueOf(ttl.toMillis()));
+            if (written != null && written == 1) {
+                stats.recordPut();
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write cake view cache. key={}", key, e);
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Long deleted = redisTemplate.execute(EVICT_SCRIPT, List.of(key, VERSION_KEY_PREFIX + key),
+                    String.valueOf(VERSION_TTL.toMillis()));
+            if (deleted != null && deleted > 0) {
+                stats.recordEviction();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict cake view cache. key={}", key, e);
+        }
+    }
+
+    private String key(String email, int createdYear) {
+        return KEY_PREFIX + email + ":" + createdYear;
+    }
+}
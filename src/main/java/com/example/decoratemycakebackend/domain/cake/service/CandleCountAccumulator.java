@@ -0,0 +1,132 @@
+package com.example.decoratemycakebackend.domain.cake.service;
+
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 케이크별 캔들 개수 증가분을 메모리에 모아두었다가 주기적으로 DB의 Cake.candleCount에 반영한다.
+ * 같은 케이크에 캔들이 몰려도 LongAdder의 셀 단위로 경합이 분산되고, 반영은 "candleCount = candleCount + delta"
+ * 형태의 UPDATE 한 번이므로 여러 서버가 동시에 반영해도 값이 유실되지 않는다.
+ * 캔들 저장 커밋과 증가분 등록은 commitAndAdd로 묶어, 그 사이에 재계산이 끼어들어 같은 캔들이 두 번 세어지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandleCountAccumulator {
+    private final CakeRepository cakeRepository;
+    private final CakeViewCache cakeViewCache;
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    // 캔들 저장(커밋 + 증가분 등록)은 여러 스레드가 함께, 재계산은 혼자 진행하도록 하는 잠금
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    /**
+     * 캔들 저장 트랜잭션을 실행하고 커밋되면 케이크별 증가분을 등록한다.
+     * 재계산은 이 구간이 끝날 때까지 기다리므로, 커밋된 캔들의 증가분은 재계산 시점에 항상 등록되어 있다.
+     */
+    public void commitAndAdd(Runnable commit, Map<Long, Long> countsByCake) {
+        commitGate.readLock().lock();
+        try {
+            commit.run();
+            countsByCake.forEach(this::add);
+        } finally {
+            commitGate.readLock().unlock();
+        }
+    }
+
+    public void increment(Long cakeId) {
+        add(cakeId, 1);
+    }
+
+    public void add(Long cakeId, long delta) {
+        while (true) {
+            LongAdder adder = pendingCounts.computeIfAbsent(cakeId, id -> new LongAdder());
+            adder.add(delta);
+            // flush가 비어있던 카운터를 제거한 직후에 더해졌다면 새 카운터에 다시 더한다.
+            if (pendingCounts.get(cakeId) == adder) {
+                return;
+            }
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 증가분
+    public long pending(Long cakeId) {
+        LongAdder adder = pendingCounts.get(cakeId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${cake.candle-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+            Long cakeId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+
+            if (delta == 0) {
+                // 증가분이 없는 카운터는 정리한다. 제거 직전에 더해진 값은 add()에서 다시 더해진다.
+                if (adder.sum() == 0) {
+                    pendingCounts.remove(cakeId, adder);
+                }
+                continue;
+            }
+
+            try {
+                cakeRepository.addCandleCount(cakeId, (int) delta);
+                cakeViewCache.evictByCakeId(cakeId);
+            } catch (RuntimeException e) {
+                // 반영에 실패한 증가분은 다음 flush에서 다시 시도한다.
+                log.warn("Failed to flush candle count. cakeId={}, delta={}", cakeId, delta, e);
+                add(cakeId, delta);
+            }
+        }
+    }
+
+    /**
+     * 캔들 테이블 기준으로 candleCount를 다시 계산하여 어긋난 값을 바로잡는다.
+     * 재계산하는 동안 이 서버의 캔들 저장을 막고, 아직 반영되지 않은 증가분은 재계산 결과에 이미 포함되므로 비운다.
+     * 다른 서버에 남아있는 증가분은 재계산과 겹칠 수 있으므로 요청이 적은 시간에 실행한다.
+     */
+    @Scheduled(cron = "${cake.candle-count.reconcile-cron:0 0 4 * * *}")
+    public synchronized void reconcile() {
+        commitGate.writeLock().lock();
+        try {
+            Map<Long, Long> drained = drain();
+            int repaired;
+            try {
+                repaired = cakeRepository.reconcileCandleCounts();
+            } catch (RuntimeException e) {
+                // 재계산이 실패하면 비운 증가분을 되돌려 다음 flush에서 반영한다.
+                drained.forEach(this::add);
+                throw e;
+            }
+            drained.keySet().forEach(cakeViewCache::evictByCakeId);
+            if (repaired > 0) {
+                log.info("Reconciled candle count of {} cakes", repaired);
+            }
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (entry.getValue().sum() == 0) {
+                pendingCounts.remove(entry.getKey(), entry.getValue());
+            }
+            if (delta != 0) {
+                drained.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+}
@@ -1,21 +1,31 @@
 package com.example.decoratemycakebackend.domain.cake.service;
 
+import com.example.decoratemycakebackend.domain.cake.dto.CakeView;
 import com.example.decoratemycakebackend.domain.cake.dto.CakeViewResponseDto;
+import com.example.decoratemycakebackend.domain.cake.dto.FriendCakeDashboardDto;
+import com.example.decoratemycakebackend.domain.cake.dto.FriendCakeQueryDto;
 import com.example.decoratemycakebackend.domain.cake.entity.Cake;
 import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
 import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.candle.service.CandleService;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendshipRepository;
 import com.example.decoratemycakebackend.domain.friend.service.FriendRequestService;
-import com.example.decoratemycakebackend.domain.member.entity.Member;
-import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
 import com.example.decoratemycakebackend.global.error.CustomException;
 import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.CursorPageDto;
 import com.example.decoratemycakebackend.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.example.decoratemycakebackend.global.util.BirthdayUtil.getNextBirthday;
@@ -25,32 +35,83 @@ import static com.example.decoratemycakebackend.global.util.BirthdayUtil.getNext
 public class FriendCakeService {
 
     private static final int PAGE_SIZE = 10;
+    private static final int MAX_DASHBOARD_PAGE_SIZE = 50;
     private final CakeRepository cakeRepository;
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
     private final FriendRequestService friendRequestService;
+    private final CandleService candleService;
+    private final CakeViewCache cakeViewCache;
+    private final FriendshipRepository friendshipRepository;
 
     public CakeViewResponseDto getCakeFromSomeone(String someoneEmail) { //친구 이메일 입력 받기, 친구 관계인지 확인 친구 아니면 예외
-        Member currentMember = memberRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        // 올해의 타인의 케이크 정보 가져오기. 타인의 회원 정보도 함께 들어있다.
+        CakeView someoneCakeView = cakeViewCache.get(someoneEmail, LocalDateTime.now().getYear());
 
-        Member someone = memberRepository.findByEmail(someoneEmail)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        // 타인의 나이 계산
+        int age = getSomeoneAge(someoneCakeView.getBirthday());
+        return getCakeAndCandleData(someoneEmail, someoneCakeView, age);
+    }
 
+    // 친구의 당해 케이크 캔들 목록을 커서 단위로 조회. 케이크 열람과 같은 열람 권한 규칙을 적용한다.
+    public CursorPageDto<CandleListDto> getCandlePageFromSomeone(String someoneEmail, String cursor, Integer size) {
+        MemberSnapshot currentMember = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+        MemberSnapshot someone = memberCache.getByEmail(someoneEmail);
 
-        // 올해의 타인의 케이크 정보 가져오기
-        Cake someoneCake = getCake(someoneEmail, LocalDateTime.now().getYear());
+        Cake someoneCake = cakeRepository.findByEmailAndCreatedYear(someoneEmail, LocalDateTime.now().getYear())
+                .orElseThrow(() -> new CustomException(ErrorCode.CAKE_NOT_FOUND));
 
-        // 타인의 나이 계산
-        int age = getSomeoneAge(someone);
-        return getCakeAndCandleData(currentMember, someone, someoneCake, age);
+        int pageSize = size == null ? PAGE_SIZE : size;
+        switch (someoneCake.getCandleViewPermission()) {
+            case ANYONE:
+                return candleService.getCandlePage(someoneCake.getId(), cursor, pageSize);
+            case ONLY_FRIENDS:
+                if (friendRequestService.isFriend(currentMember.getMemberId(), someone.getMemberId())) {
+                    return candleService.getCandlePage(someoneCake.getId(), cursor, pageSize);
+                } else {
+                    throw new CustomException(ErrorCode.NOT_FRIEND);
+                }
+            case ONLY_ME:
+                return CursorPageDto.empty();
+            default:
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 친구들의 올해 케이크 모아보기. 친구 목록 한 페이지와 그 친구들의 케이크를 각각 한 번의 쿼리로 조회하고,
+     * 캔들 열람/개수 공개 범위는 메모리에서 적용한다. 친구 회원 id를 커서로 사용한다.
+     */
+    public CursorPageDto<FriendCakeDashboardDto> getFriendCakeDashboard(String cursor, Integer size) {
+        MemberSnapshot currentMember = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+        int pageSize = Math.max(1, Math.min(size == null ? PAGE_SIZE : size, MAX_DASHBOARD_PAGE_SIZE));
+
+        Long cursorId;
+        try {
+            cursorId = cursor == null || cursor.isBlank() ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+
+        CursorPageDto<FriendListResponseDto> friends = CursorPageDto.of(
+                friendshipRepository.findFriendPageOrderById(currentMember.getMemberId(), cursorId, PageRequest.of(0, pageSize + 1)),
+                pageSize, friend -> String.valueOf(friend.getMemberId()));
+        if (friends.getContent().isEmpty()) {
+            return CursorPageDto.empty();
+        }
+
+        List<String> friendEmails = friends.getContent().stream().map(FriendListResponseDto::getEmail).toList();
+        // (email, 년도) 유니크 인덱스로 친구마다 케이크는 최대 하나
+        Map<String, FriendCakeQueryDto> cakesByEmail = cakeRepository.findFriendCakes(friendEmails, LocalDateTime.now().getYear()).stream()
+                .collect(Collectors.toMap(FriendCakeQueryDto::getEmail, Function.identity()));
+
+        return friends.map(friend -> FriendCakeDashboardDto.of(friend, cakesByEmail.get(friend.getEmail())));
     }
 
     /** 친구의 케이크 열람시에는 생일로부터의 기간에 따라 다른 정보를 표시하는게 아니라,
         단순히 친구가 설정한 케이크 설정에 따라 데이터 조회 범위가 달라진다.
      **/
-    private int getSomeoneAge(Member someone) {
+    private int getSomeoneAge(LocalDate friendBirthday) {
 
-        LocalDate friendBirthday = someone.getBirthday();
         LocalDate today = LocalDate.now();
         LocalDate nextBirthday = getNextBirthday(today, friendBirthday);
 
@@ -58,52 +119,51 @@ public class FriendCakeService {
 
     }
 
-    private Cake getCake(String email, int cakeCreatedYear) {
-        return cakeRepository.findByEmailAndCreatedYear(email, cakeCreatedYear)
-                .orElse(null);
-    }
-
-    private CakeViewResponseDto getCakeAndCandleData(Member currentMember, Member someone, Cake someoneCake, int age) {
+    private CakeViewResponseDto getCakeAndCandleData(String someoneEmail, CakeView someoneCakeView, int age) {
         // 케이크가 없는 경우
-        if (someoneCake == null) {
-            return cakeViewResponseDtoWithMessage(someone, "친구가 아직 케이크를 만들지 않았습니다!");
+        if (!someoneCakeView.hasCake()) {
+            return cakeViewResponseDtoWithMessage(someoneCakeView, "친구가 아직 케이크를 만들지 않았습니다!");
         }
 
-        switch (someoneCake.getCandleViewPermission()) {
+        switch (someoneCakeView.getCandleViewPermission()) {
             case ANYONE:
-                return getCakeAndCandlesForSomeone(someoneCake, someone, age);
+                return getCakeAndCandlesForSomeone(someoneCakeView, age);
             case ONLY_FRIENDS:
                 // 친구관계 확인
-                if (friendRequestService.isFriend(currentMember, someone)) {
-                    return getCakeAndCandlesForSomeone(someoneCake, someone, age);
+                if (isFriendWithCurrentMember(someoneEmail)) {
+                    return getCakeAndCandlesForSomeone(someoneCakeView, age);
                 } else {
                     throw new CustomException(ErrorCode.NOT_FRIEND);
                 }
             case ONLY_ME:
-                return cakeViewResponseDtoWithMessage(someone, "비공개 된 케이크입니다.");
+                return cakeViewResponseDtoWithMessage(someoneCakeView, "비공개 된 케이크입니다.");
             default:
                 throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
-    private CakeViewResponseDto getCakeAndCandlesForSomeone(Cake someoneCake, Member someone, int age) {
-        List<CandleListDto> candleList = someoneCake.getCandles().stream()
-                .map(CandleListDto::from)
-                .collect(Collectors.toList());
+    private boolean isFriendWithCurrentMember(String someoneEmail) {
+        MemberSnapshot currentMember = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+        MemberSnapshot someone = memberCache.getByEmail(someoneEmail);
+
+        return friendRequestService.isFriend(currentMember.getMemberId(), someone.getMemberId());
+    }
 
-        return CakeViewResponseDto.toDtoForFriend(someoneCake, someone, candleList, getBirthdayMessage(someone, age));
+    private CakeViewResponseDto getCakeAndCandlesForSomeone(CakeView someoneCakeView, int age) {
+        return CakeViewResponseDto.toDtoForFriend(someoneCakeView, someoneCakeView.getCandleList(),
+                getBirthdayMessage(someoneCakeView.getNickname(), age));
     }
 
-    private CakeViewResponseDto cakeViewResponseDtoWithMessage(Member someone, String message) {
+    private CakeViewResponseDto cakeViewResponseDtoWithMessage(CakeView someoneCakeView, String message) {
         return CakeViewResponseDto.builder()
-                .nickname(someone.getNickname())
-                .birthday(someone.getBirthday().toString())
+                .nickname(someoneCakeView.getNickname())
+                .birthday(someoneCakeView.getBirthday().toString())
                 .message(message)
                 .build();
     }
 
-    private String getBirthdayMessage(Member member, int age) {
-        return member.getNickname() + "님의 " + age + "살 생일을 축하해주세요!!";
+    private String getBirthdayMessage(String nickname, int age) {
+        return nickname + "님의 " + age + "살 생일을 축하해주세요!!";
     }
 
 }
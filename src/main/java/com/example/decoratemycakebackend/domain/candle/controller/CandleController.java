@@ -0,0 +1,51 @@
+package com.example.decoratemycakebackend.domain.candle.controller;
+
+import com.example.decoratemycakebackend.domain.candle.dto.CandleCreateRequestDto;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleCreateResponseDto;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleWriteStatusDto;
+import com.example.decoratemycakebackend.domain.candle.service.CandleService;
+import com.example.decoratemycakebackend.global.util.ResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "캔들 관리 API", description = "캔들 관리 API endpoints")
+@RestController
+@RequestMapping("/candles")
+@RequiredArgsConstructor
+public class CandleController {
+
+    private final CandleService candleService;
+
+    @Operation(summary = "캔들 작성", description = "케이크 주인의 올해 케이크에 캔들 작성<br>" +
+            "케이크의 캔들 생성 허용 범위가 ONLY_FRIENDS이면 친구만 작성 가능<br>" +
+            "저장이 바로 끝나면 200과 candleId 반환<br>" +
+            "요청만 접수된 경우 202와 persisted=false, requestId 반환. 접수된 요청은 저장에 실패하거나 서버 재시작으로 유실될 수 있으므로 " +
+            "저장 결과 조회 API로 확인해야 함")
+    @PostMapping("/create")
+    public ResponseEntity<ResponseDto<?>> createCandle(@Valid @RequestBody CandleCreateRequestDto requestDto) {
+        CandleCreateResponseDto responseDto = candleService.createCandle(requestDto);
+        if (!responseDto.isPersisted()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ResponseDto<>("캔들 작성 요청이 접수되었습니다.", responseDto));
+        }
+        return ResponseEntity.ok(new ResponseDto<>("캔들 작성이 완료되었습니다.", responseDto));
+    }
+
+    @Operation(summary = "캔들 작성 결과 조회", description = "202로 접수된 캔들 작성 요청의 저장 결과 조회<br>" +
+            "PENDING: 저장 대기 중, PERSISTED: 저장 완료(candleId 포함), FAILED: 저장 실패<br>" +
+            "요청을 찾을 수 없으면 404. 결과가 만료되었거나 서버 재시작으로 요청이 유실된 경우이므로 다시 작성해야 함")
+    @GetMapping("/create/{requestId}")
+    public ResponseEntity<ResponseDto<?>> getCandleWriteStatus(@PathVariable String requestId) {
+        CandleWriteStatusDto responseDto = candleService.getWriteStatus(requestId);
+        return ResponseEntity.ok(new ResponseDto<>("캔들 작성 결과 조회가 완료되었습니다.", responseDto));
+    }
+}
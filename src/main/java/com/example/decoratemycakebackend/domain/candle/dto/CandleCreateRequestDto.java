@@ -0,0 +1,41 @@
+package com.example.decoratemycakebackend.domain.candle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class CandleCreateRequestDto {
+    @Schema(description = "케이크 주인의 이메일", example = "test12345@gmail.com", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "케이크 주인의 이메일은 필수 입력 값입니다.")
+    @Email(message = "유효한 이메일 주소를 입력해주세요.")
+    private String cakeOwnerEmail;
+
+    @Schema(description = "캔들 이름", example = "yellow_candle", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "캔들 이름은 필수 입력 값입니다.")
+    private String candleName;
+
+    @Schema(description = "캔들 메시지 제목", example = "생일축하해!", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "캔들 메시지 제목은 필수 입력 값입니다.")
+    @Size(max = 100, message = "캔들 메시지 제목은 100자 이하로 입력해주세요.")
+    private String candleTitle;
+
+    @Schema(description = "캔들 메시지 내용", example = "캔들 내용 블라블라", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "캔들 메시지 내용은 필수 입력 값입니다.")
+    @Size(max = 255, message = "캔들 메시지 내용은 255자 이하로 입력해주세요.")
+    private String candleContent;
+
+    @Schema(description = "작성자. 입력하지 않으면 로그인 한 유저의 닉네임", example = "오예진", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String writer;
+
+    @Schema(description = "비밀글 여부", example = "false", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private boolean isPrivate;
+}
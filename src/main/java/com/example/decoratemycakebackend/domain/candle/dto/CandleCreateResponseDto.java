@@ -0,0 +1,15 @@
+package com.example.decoratemycakebackend.domain.candle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CandleCreateResponseDto {
+    // 저장이 끝나지 않은 상태로 응답하는 경우 null
+    private Long candleId;
+    // false면 요청이 접수만 된 상태. 저장 여부는 requestId로 조회해야 한다.
+    private boolean persisted;
+    // 접수만 된 경우 저장 결과 조회에 사용하는 id. 저장이 끝났으면 null
+    private String requestId;
+}
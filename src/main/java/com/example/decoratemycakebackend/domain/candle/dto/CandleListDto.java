@@ -1,5 +1,6 @@
 package com.example.decoratemycakebackend.domain.candle.dto;
 
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewQueryDto;
 import com.example.decoratemycakebackend.domain.candle.entity.Candle;
 import lombok.*;
 
@@ -24,10 +25,23 @@ public class CandleListDto {
                 candle.getName(),
                 candle.getTitle(),
                 candle.getContent(),
-                candle.getCreatedAt().toString(),
+                candle.getCreatedAt() == null ? null : candle.getCreatedAt().toString(),
                 candle.getWriter(),
                 candle.isPrivate()
         );
     }
 
+    // 케이크 열람 projection -> Dto
+    public static CandleListDto from(CakeViewQueryDto row) {
+        return new CandleListDto(
+                row.getCandleId(),
+                row.getCandleName(),
+                row.getCandleTitle(),
+                row.getCandleContent(),
+                row.getCandleCreatedAt() == null ? null : row.getCandleCreatedAt().toString(),
+                row.getWriter(),
+                Boolean.TRUE.equals(row.getIsPrivate())
+        );
+    }
+
 }
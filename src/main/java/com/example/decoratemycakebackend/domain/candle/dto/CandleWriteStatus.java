@@ -0,0 +1,5 @@
+package com.example.decoratemycakebackend.domain.candle.dto;
+
+public enum CandleWriteStatus {
+    PENDING, PERSISTED, FAILED
+}
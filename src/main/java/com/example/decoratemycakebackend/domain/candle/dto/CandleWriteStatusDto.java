@@ -0,0 +1,13 @@
+package com.example.decoratemycakebackend.domain.candle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CandleWriteStatusDto {
+    private String requestId;
+    private CandleWriteStatus status;
+    // 저장이 끝난 경우에만 값이 있음
+    private Long candleId;
+}
@@ -11,9 +11,12 @@ import lombok.*;
 @Getter
 @Setter
 @Builder
+@Table(indexes = @Index(name = "idx_candle_cake_id_candle_id", columnList = "cake_id, candle_id"))
 public class Candle extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    // 묶음 insert 시 id 발급을 위한 시퀀스 호출을 줄이기 위해 50개 단위로 미리 할당
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candle_seq_generator")
+    @SequenceGenerator(name = "candle_seq_generator", sequenceName = "candle_seq", allocationSize = 50)
     @Column(name = "candle_id", nullable = false)
     private Long id;
     private String name; // 캔들과 캔들 이미지 이름 동일함.
@@ -2,10 +2,17 @@ package com.example.decoratemycakebackend.domain.candle.repsository;
 
 import com.example.decoratemycakebackend.domain.cake.entity.Cake;
 import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CandleRepository extends JpaRepository<Candle, Long> {
     List<Candle> findByCake(Cake cake);
+
+    // (cake_id, candle_id) 인덱스를 타는 keyset 페이지 조회. cursor 이후의 캔들을 id 순으로 가져온다.
+    @Query("SELECT cd FROM Candle cd WHERE cd.cake.id = :cakeId AND cd.id > :cursor ORDER BY cd.id")
+    List<Candle> findPageByCakeId(@Param("cakeId") Long cakeId, @Param("cursor") Long cursor, Pageable pageable);
 }
@@ -0,0 +1,122 @@
+package com.example.decoratemycakebackend.domain.candle.service;
+
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleCreateRequestDto;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleCreateResponseDto;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleWriteStatusDto;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.candle.repsository.CandleRepository;
+import com.example.decoratemycakebackend.domain.friend.service.FriendRequestService;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.CursorPageDto;
+import com.example.decoratemycakebackend.global.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+public class CandleService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private final CandleRepository candleRepository;
+    private final CakeRepository cakeRepository;
+    private final MemberCache memberCache;
+    private final FriendRequestService friendRequestService;
+    private final CandleWriteBehindQueue candleWriteBehindQueue;
+    private final CandleWriteStatusStore candleWriteStatusStore;
+
+    @Value("${candle.write-behind.ack-timeout:500ms}")
+    private Duration ackTimeout;
+
+    /**
+     * 올해의 케이크에 캔들을 작성한다. 저장은 write-behind 큐에서 묶음으로 처리되며,
+     * ackTimeout 안에 저장이 끝나면 캔들 id를, 아니면 결과 조회용 요청 id와 접수 상태만 돌려준다.
+     */
+    public CandleCreateResponseDto createCandle(CandleCreateRequestDto requestDto) {
+        MemberSnapshot writer = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+        MemberSnapshot cakeOwner = memberCache.getByEmail(requestDto.getCakeOwnerEmail());
+
+        Cake cake = cakeRepository.findByEmailAndCreatedYear(cakeOwner.getEmail(), LocalDateTime.now().getYear())
+                .orElseThrow(() -> new CustomException(ErrorCode.CAKE_NOT_FOUND));
+        checkCreatePermission(cake.getCandleCreatePermission(), writer, cakeOwner);
+
+        Candle candle = Candle.builder()
+                .name(requestDto.getCandleName())
+                .title(requestDto.getCandleTitle())
+                .content(requestDto.getCandleContent())
+                .writer(requestDto.getWriter() == null || requestDto.getWriter().isBlank()
+                        ? writer.getNickname() : requestDto.getWriter())
+                .isPrivate(requestDto.isPrivate())
+                .build();
+
+        CompletableFuture<Long> ack = candleWriteBehindQueue.submit(cake.getId(), candle);
+        try {
+            return new CandleCreateResponseDto(ack.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS), true, null);
+        } catch (TimeoutException e) {
+            // 큐는 메모리에만 있어 저장 실패나 서버 종료 시 유실될 수 있다. 저장 결과는 요청 id로 조회하게 한다.
+            String requestId = UUID.randomUUID().toString();
+            candleWriteStatusStore.track(requestId, ack);
+            return new CandleCreateResponseDto(null, false, requestId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 접수만 된 캔들 작성 요청의 저장 결과. 만료되었거나 유실된 요청은 찾을 수 없다.
+    public CandleWriteStatusDto getWriteStatus(String requestId) {
+        return candleWriteStatusStore.find(requestId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CANDLE_WRITE_REQUEST_NOT_FOUND));
+    }
+
+    // 케이크 주인 본인은 항상 작성 가능, ONLY_FRIENDS이면 친구만 작성 가능
+    private void checkCreatePermission(CandleCreatePermission permission, MemberSnapshot writer, MemberSnapshot cakeOwner) {
+        if (permission == CandleCreatePermission.ANYONE || writer.getMemberId().equals(cakeOwner.getMemberId())) {
+            return;
+        }
+        if (!friendRequestService.isFriend(writer.getMemberId(), cakeOwner.getMemberId())) {
+            throw new CustomException(ErrorCode.NOT_FRIEND);
+        }
+    }
+
+    // 캔들 id를 커서로 사용하는 페이지 조회. 권한 확인은 호출하는 쪽에서 끝낸 상태여야 한다.
+    public CursorPageDto<CandleListDto> getCandlePage(Long cakeId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<CandleListDto> candles = candleRepository.findPageByCakeId(cakeId, parseCursor(cursor), PageRequest.of(0, pageSize + 1))
+                .stream()
+                .map(CandleListDto::from)
+                .toList();
+
+        return CursorPageDto.of(candles, pageSize, candle -> String.valueOf(candle.getCandleId()));
+    }
+
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+    }
+}
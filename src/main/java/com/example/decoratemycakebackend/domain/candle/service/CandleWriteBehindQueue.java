@@ -0,0 +1,171 @@
+package com.example.decoratemycakebackend.domain.candle.service;
+
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.cake.service.CakeViewCache;
+import com.example.decoratemycakebackend.domain.cake.service.CandleCountAccumulator;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.candle.repsository.CandleRepository;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 캔들 저장 요청을 큐에 모아 백그라운드 스레드에서 묶음 단위로 저장한다.
+ * 한 묶음은 한 트랜잭션이며 hibernate.jdbc.batch_size에 따라 JDBC batch insert로 실행된다.
+ * 큐가 가득 차면 요청을 바로 거절하고, 저장이 끝나면 요청별 CompletableFuture로 캔들 id를 전달한다.
+ * 큐는 메모리에만 있으므로 서버가 비정상 종료되면 아직 저장되지 않은 요청은 유실된다.
+ */
+@Slf4j
+@Component
+public class CandleWriteBehindQueue {
+    private final CandleRepository candleRepository;
+    private final CakeRepository cakeRepository;
+    private final CandleCountAccumulator candleCountAccumulator;
+    private final CakeViewCache cakeViewCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingCandle> queue;
+    private final int batchSize;
+    private final Counter persistedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private Thread worker;
+    private volatile boolean running;
+
+    public CandleWriteBehindQueue(CandleRepository candleRepository,
+                                  CakeRepository cakeRepository,
+                                  CandleCountAccumulator candleCountAccumulator,
+                                  CakeViewCache cakeViewCache,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${candle.write-behind.capacity:10000}") int capacity,
+                                  @Value("${candle.write-behind.batch-size:50}") int batchSize) {
+        this.candleRepository = candleRepository;
+        this.cakeRepository = cakeRepository;
+        this.candleCountAccumulator = candleCountAccumulator;
+        this.cakeViewCache = cakeViewCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.persistedCounter = meterRegistry.counter("candle.write-behind.persisted");
+        this.failedCounter = meterRegistry.counter("candle.write-behind.failed");
+        this.flushTimer = meterRegistry.timer("candle.write-behind.flush");
+        Gauge.builder("candle.write-behind.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "candle-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 종료 시 큐에 남은 요청을 모두 저장한 뒤 멈춘다.
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingCandle> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    public CompletableFuture<Long> submit(Long cakeId, Candle candle) {
+        PendingCandle pending = new PendingCandle(cakeId, candle, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        return pending.ack();
+    }
+
+    private void run() {
+        List<PendingCandle> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingCandle first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 첫 요청 이후 이미 쌓여있는 요청을 batch 크기만큼 함께 저장
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in candle write-behind worker", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingCandle> batch) {
+        try {
+            flushTimer.record(() -> saveAll(batch));
+        } catch (RuntimeException e) {
+            // 묶음 저장이 실패하면 문제가 있는 요청만 실패하도록 한 건씩 다시 저장
+            log.warn("Candle batch insert failed, retrying one by one. size={}", batch.size(), e);
+            for (PendingCandle pending : batch) {
+                try {
+                    // 롤백된 트랜잭션에서 발급된 id가 남아 있으면 persist 대신 merge 되므로 비우고 다시 저장
+                    pending.candle().setId(null);
+                    saveAll(List.of(pending));
+                } catch (RuntimeException single) {
+                    failedCounter.increment();
+                    pending.ack().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private void saveAll(List<PendingCandle> batch) {
+        // 요청에는 저장 결과로 돌려받은 엔티티의 id를 전달
+        Long[] candleIds = new Long[batch.size()];
+        Map<Long, Long> countsByCake = batch.stream()
+                .collect(Collectors.groupingBy(PendingCandle::cakeId, Collectors.counting()));
+        // 커밋되면 캔들 개수 증가분을 등록. 재계산과 겹치지 않도록 커밋과 등록을 함께 처리한다.
+        candleCountAccumulator.commitAndAdd(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (PendingCandle pending : batch) {
+                pending.candle().setCake(cakeRepository.getReferenceById(pending.cakeId()));
+            }
+            List<Candle> saved = candleRepository.saveAll(batch.stream().map(PendingCandle::candle).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                candleIds[i] = saved.get(i).getId();
+            }
+        }), countsByCake);
+
+        // 커밋 이후 캐시 무효화를 반영하고 요청에 결과를 알림
+        countsByCake.keySet().forEach(cakeViewCache::evictByCakeId);
+        persistedCounter.increment(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).ack().complete(candleIds[i]);
+        }
+    }
+
+    private record PendingCandle(Long cakeId, Candle candle, CompletableFuture<Long> ack) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.decoratemycakebackend.domain.candle.service;
+
+import com.example.decoratemycakebackend.domain.candle.dto.CandleWriteStatus;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleWriteStatusDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 응답 시간 안에 저장되지 않은 캔들 작성 요청의 처리 결과를 Redis에 보관한다.
+ * write-behind 큐는 메모리에만 있으므로 서버가 종료되면 대기 중이던 요청은 사라진다.
+ * 이 경우 PENDING 상태가 pending-ttl 뒤에 만료되어 조회되지 않으므로, 클라이언트는 다시 작성하면 된다.
+ */
+@Slf4j
+@Component
+public class CandleWriteStatusStore {
+    private static final String KEY_PREFIX = "candle:write:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration pendingTtl;
+    private final Duration resultTtl;
+
+    public CandleWriteStatusStore(RedisTemplate<String, Object> redisTemplate,
+                                  @Value("${candle.write-behind.status.pending-ttl:5m}") Duration pendingTtl,
+                                  @Value("${candle.write-behind.status.result-ttl:1h}") Duration resultTtl) {
+        this.redisTemplate = redisTemplate;
+        this.pendingTtl = pendingTtl;
+        this.resultTtl = resultTtl;
+    }
+
+    // 접수 상태를 남기고, 저장이 끝나면 결과로 덮어쓴다. 이미 끝난 경우 콜백이 바로 실행된다.
+    public void track(String requestId, CompletableFuture<Long> ack) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + requestId, CandleWriteStatus.PENDING.name(), pendingTtl);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record pending candle write. requestId={}", requestId, e);
+        }
+        ack.whenComplete((candleId, failure) -> {
+            String value = failure == null ? CandleWriteStatus.PERSISTED.name() + ":" + candleId : CandleWriteStatus.FAILED.name();
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + requestId, value, resultTtl);
+            } catch (DataAccessException e) {
+                log.warn("Failed to record candle write result. requestId={}", requestId, e);
+            }
+        });
+    }
+
+    public Optional<CandleWriteStatusDto> find(String requestId) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + requestId);
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.toString().split(":", 2);
+        Long candleId = parts.length > 1 ? Long.valueOf(parts[1]) : null;
+        return Optional.of(new CandleWriteStatusDto(requestId, CandleWriteStatus.valueOf(parts[0]), candleId));
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.decoratemycakebackend.domain.friend.controller;
 
+import com.example.decoratemycakebackend.domain.friend.dto.ContactImportRequestDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendBulkRequestDto;
 import com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendListSort;
 import com.example.decoratemycakebackend.domain.friend.dto.FriendRequestAnswerDto;
 import com.example.decoratemycakebackend.domain.friend.dto.FriendRequestDto;
+import com.example.decoratemycakebackend.domain.friend.service.FriendBirthdayService;
+import com.example.decoratemycakebackend.domain.friend.service.FriendBulkService;
+import com.example.decoratemycakebackend.domain.friend.service.FriendImportService;
 import com.example.decoratemycakebackend.domain.friend.service.FriendRequestService;
+import com.example.decoratemycakebackend.domain.friend.service.FriendSuggestionService;
 import com.example.decoratemycakebackend.global.util.ResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +28,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FriendRequestController {
     private final FriendRequestService friendRequestService;
+    private final FriendSuggestionService friendSuggestionService;
+    private final FriendBirthdayService friendBirthdayService;
+    private final FriendBulkService friendBulkService;
+    private final FriendImportService friendImportService;
 
     @Operation(summary = "친구 요청", description = "메시지는 필수 아님. 요청 중복 불가. receiverEmail: 친구 요청을 받는 유저의 이메일")
     @PostMapping("/request")
@@ -36,6 +47,22 @@ public class FriendRequestController {
         return ResponseEntity.ok(new ResponseDto<>(message, null));
     }
 
+    @Operation(summary = "친구 요청 일괄 수락/거절, 친구 일괄 삭제", description = "action: ACCEPT, REJECT(받은 요청), DELETE(친구 삭제)<br>" +
+            "emails: 친구 요청을 보냈던 유저 또는 삭제할 친구의 이메일 목록, 최대 100개<br>" +
+            "항목별 결과(success, code, message)를 요청 순서대로 반환하며 일부 실패해도 나머지는 반영됨")
+    @PostMapping("/bulk")
+    public ResponseEntity<ResponseDto<?>> applyBulk(@Valid @RequestBody FriendBulkRequestDto friendBulkRequestDto) {
+        return ResponseEntity.ok(new ResponseDto<>("일괄 처리가 완료되었습니다.", friendBulkService.apply(friendBulkRequestDto)));
+    }
+
+    @Operation(summary = "연락처로 친구 찾기", description = "연락처 이메일 목록(최대 5000개)에서 가입한 회원과 친구 관계(NONE, FRIEND, REQUEST_SENT, REQUEST_RECEIVED)를 조회<br>" +
+            "앞뒤 공백과 mailto: 는 제거하고 도메인은 소문자로 비교. 중복은 한 번만 조회<br>" +
+            "sendRequest가 true이면 관계가 NONE인 회원 모두에게 message로 친구 요청을 함께 보냄")
+    @PostMapping("/import")
+    public ResponseEntity<ResponseDto<?>> importContacts(@Valid @RequestBody ContactImportRequestDto contactImportRequestDto) {
+        return ResponseEntity.ok(new ResponseDto<>("연락처 조회가 완료되었습니다.", friendImportService.importContacts(contactImportRequestDto)));
+    }
+
     @Operation(summary = "친구 목록 조회", description = "해당 유저의 친구 목록 조회. 메시지는 필수 아님")
     @GetMapping("/list")
     public ResponseEntity<ResponseDto<?>> getFriendList() {
@@ -43,6 +70,24 @@ public class FriendRequestController {
         return ResponseEntity.ok(new ResponseDto<>("친구 목록 조회가 완료되었습니다.", friendList));
     }
 
+    @Operation(summary = "친구 목록 페이지 조회", description = "커서 기반 페이지 조회. 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 cursor로 전달<br>" +
+            "정렬 기준: ID(기본), NICKNAME, BIRTHDAY(오늘부터 다가오는 생일 순)<br>" +
+            "size 기본값 20, 최대 100")
+    @GetMapping("/list/page")
+    public ResponseEntity<ResponseDto<?>> getFriendPage(@RequestParam(defaultValue = "ID") FriendListSort sort,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(new ResponseDto<>("친구 목록 조회가 완료되었습니다.", friendRequestService.getFriendPage(sort, cursor, size)));
+    }
+
+    @Operation(summary = "친구 요청 목록 페이지 조회", description = "받은 친구 요청을 최근 요청부터 커서 기반으로 조회<br>" +
+            "size 기본값 20, 최대 100")
+    @GetMapping("/request/list/page")
+    public ResponseEntity<ResponseDto<?>> getFriendRequestPage(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(new ResponseDto<>("친구 요청 목록 조회가 완료되었습니다.", friendRequestService.getFriendRequestPage(cursor, size)));
+    }
+
     @Operation(summary = "친구 요청 목록 조회", description = "해당 유저가 받은 친구 요청들에 대한 목록 조회")
     @GetMapping("/request/list")
     public ResponseEntity<ResponseDto<?>> getFriendRequestList() {
@@ -56,4 +101,23 @@ public class FriendRequestController {
         return ResponseEntity.ok(new ResponseDto<>("친구 삭제가 완료되었습니다.", null));
     }
 
+    @Operation(summary = "함께 아는 친구 수 조회", description = "로그인 한 유저와 해당 유저의 공통 친구 수")
+    @GetMapping("/mutual")
+    public ResponseEntity<ResponseDto<?>> getMutualFriendCount(@RequestParam("friendEmail") @Email(message = "올바른 이메일 형식이 필요합니다.") String friendEmail) {
+        return ResponseEntity.ok(new ResponseDto<>("함께 아는 친구 수 조회가 완료되었습니다.", friendSuggestionService.getMutualFriendCount(friendEmail)));
+    }
+
+    @Operation(summary = "알 수도 있는 친구 추천", description = "함께 아는 친구가 많은 순서로 친구가 아닌 유저를 추천. size 기본값 10, 최대 50")
+    @GetMapping("/suggestions")
+    public ResponseEntity<ResponseDto<?>> getFriendSuggestions(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(new ResponseDto<>("친구 추천 목록 조회가 완료되었습니다.", friendSuggestionService.getSuggestions(size)));
+    }
+
+    @Operation(summary = "다가오는 친구 생일 조회", description = "오늘부터 days일 이내에 생일인 친구를 생일이 가까운 순으로 조회<br>" +
+            "days 기본값 30, 최대 364. size 기본값 50, 최대 100. 2월 29일생은 윤년이 아닌 해에 2월 28일로 계산")
+    @GetMapping("/birthdays")
+    public ResponseEntity<ResponseDto<?>> getUpcomingBirthdays(@RequestParam(defaultValue = "30") int days,
+                                                              @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(new ResponseDto<>("다가오는 친구 생일 조회가 완료되었습니다.", friendBirthdayService.getUpcomingBirthdays(days, size)));
+    }
 }
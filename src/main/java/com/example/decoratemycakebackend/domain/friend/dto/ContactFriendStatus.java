@@ -0,0 +1,6 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+// 연락처로 찾은 회원과 로그인 한 유저의 관계
+public enum ContactFriendStatus {
+    NONE, FRIEND, REQUEST_SENT, REQUEST_RECEIVED
+}
@@ -0,0 +1,26 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContactImportRequestDto {
+    @Schema(description = "연락처 이메일 목록", example = "[\"test12345@gmail.com\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "이메일 목록은 필수 입력 값입니다.")
+    @Size(max = 5000, message = "한 번에 5000개까지 가져올 수 있습니다.")
+    private List<String> emails;
+
+    @Schema(description = "아직 친구가 아닌 회원에게 친구 요청을 함께 보낼지 여부", example = "false", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private boolean sendRequest;
+
+    @Schema(description = "친구 요청 메시지", example = "나 ooo인데 친추좀 해주라", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ContactImportResponseDto {
+    // 중복 제거 후 조회한 이메일 수
+    private int contactCount;
+    // 이메일 형식이 아니어서 제외한 항목 수
+    private int invalidCount;
+    private List<ContactMatchDto> members;
+    private int requestsSent;
+}
@@ -0,0 +1,23 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ContactMatchDto {
+    private Long memberId;
+    private String email;
+    private String nickname;
+    private String profileImg;
+    private ContactFriendStatus friendStatus;
+
+    // JPQL 프로젝션용. 관계는 조회 후 채운다.
+    public ContactMatchDto(Long memberId, String email, String nickname, String profileImg) {
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.profileImg = profileImg;
+        this.friendStatus = ContactFriendStatus.NONE;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class FriendBirthdayResponseDto {
+    private Long memberId;
+    private String nickname;
+    private String email;
+    private LocalDate birthday;
+    private String profileImg;
+    private LocalDate nextBirthday;
+    // 오늘이 생일이면 0
+    private long daysUntilBirthday;
+}
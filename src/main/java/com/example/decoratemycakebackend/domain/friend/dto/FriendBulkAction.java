@@ -0,0 +1,6 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+// 친구 요청 일괄 처리 종류. ACCEPT/REJECT는 받은 요청, DELETE는 친구 관계에 적용
+public enum FriendBulkAction {
+    ACCEPT, REJECT, DELETE
+}
@@ -0,0 +1,25 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class FriendBulkRequestDto {
+    @Schema(description = "처리 종류", example = "ACCEPT", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "처리 종류는 필수 입력 값입니다.")
+    private FriendBulkAction action;
+
+    @Schema(description = "친구 요청을 보냈던 유저 또는 삭제할 친구의 이메일 목록", example = "[\"test12345@gmail.com\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "이메일 목록은 필수 입력 값입니다.")
+    @Size(max = 100, message = "한 번에 100명까지 처리할 수 있습니다.")
+    private List<String> emails;
+}
@@ -0,0 +1,23 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 처리의 항목별 결과. 실패한 항목은 에러 코드와 메시지를 담는다.
+@Getter
+@AllArgsConstructor
+public class FriendBulkResultDto {
+    private String email;
+    private boolean success;
+    private String code;
+    private String message;
+
+    public static FriendBulkResultDto success(String email) {
+        return new FriendBulkResultDto(email, true, null, null);
+    }
+
+    public static FriendBulkResultDto failure(String email, ErrorCode errorCode) {
+        return new FriendBulkResultDto(email, false, errorCode.name(), errorCode.getMessage());
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+// 친구 목록 정렬 기준. BIRTHDAY는 오늘부터 다가오는 생일 순
+public enum FriendListSort {
+    ID, NICKNAME, BIRTHDAY
+}
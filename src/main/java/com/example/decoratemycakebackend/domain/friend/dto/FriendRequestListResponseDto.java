@@ -15,4 +15,6 @@ public class FriendRequestListResponseDto {
     private String email;
     private LocalDate birthday;
     private String profileImg;
+    // 페이지 조회 시 커서로 사용하는 친구 요청 id. 전체 목록 조회에서는 null
+    private Long friendRequestId;
 }
@@ -0,0 +1,7 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import com.example.decoratemycakebackend.domain.friend.entity.FriendRequestStatus;
+
+// 두 회원 사이 친구 요청의 방향과 상태만 조회할 때 쓰는 프로젝션
+public record FriendRequestStatusDto(Long senderId, Long receiverId, FriendRequestStatus status) {
+}
@@ -0,0 +1,16 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class FriendSuggestionResponseDto {
+    private Long memberId;
+    private String nickname;
+    private String email;
+    private String profileImg;
+    private int mutualFriendCount;
+}
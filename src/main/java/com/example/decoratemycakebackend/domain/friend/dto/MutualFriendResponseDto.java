@@ -0,0 +1,13 @@
+package com.example.decoratemycakebackend.domain.friend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class MutualFriendResponseDto {
+    private String email;
+    private int mutualFriendCount;
+}
@@ -9,9 +9,13 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_friend_request_receiver_status_id", columnList = "receiver_id, status, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_friend_request_sender_receiver", columnNames = {"sender_id", "receiver_id"}))
 public class FriendRequest {
+    // 친구 요청 전송은 네이티브 upsert 에서 nextval 로 id 를 직접 발급하므로 시퀀스 이름을 고정
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friend_request_seq_generator")
+    @SequenceGenerator(name = "friend_request_seq_generator", sequenceName = "friend_request_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -37,60 +41,4 @@ public class FriendRequest {
 //        this.status = FriendRequestStatus.REJECTED;
 //    }
 
-    public FriendRequest updateToPending(String message) {
-        if (this.status != FriendRequestStatus.REJECTED && this.status != FriendRequestStatus.DELETED) {
-            throw new IllegalStateException("Only rejected friend requests can be updated to pending.");
-        }
-        return FriendRequest.builder()
-                .id(this.id)
-                .sender(this.sender)
-                .receiver(this.receiver)
-                .status(FriendRequestStatus.PENDING)
-                .message(message)
-                .profileImg(this.profileImg)
-                .build();
-    }
-
-    public FriendRequest acceptRequest() {
-        if (this.status != FriendRequestStatus.PENDING) {
-            throw new IllegalStateException("Only pending friend requests can be accepted.");
-        }
-        return FriendRequest.builder()
-                .id(this.id)
-                .sender(this.sender)
-                .receiver(this.receiver)
-                .status(FriendRequestStatus.ACCEPTED)
-                .message(this.message)
-                .profileImg(this.profileImg)
-                .build();
-    }
-
-    public FriendRequest rejectRequest() {
-        if (this.status != FriendRequestStatus.PENDING) {
-            throw new IllegalStateException("Only pending friend requests can be rejected.");
-        }
-        return FriendRequest.builder()
-                .id(this.id)
-                .sender(this.sender)
-                .receiver(this.receiver)
-                .status(FriendRequestStatus.REJECTED)
-                .message(this.message)
-                .profileImg(this.profileImg)
-                .build();
-    }
-
-    public FriendRequest deleteRequest() {
-        if (this.status != FriendRequestStatus.ACCEPTED) {
-            throw new IllegalStateException("Only accepted friend requests can be deleted.");
-        }
-        return FriendRequest.builder()
-                .id(this.id)
-                .sender(this.sender)
-                .receiver(this.receiver)
-                .status(FriendRequestStatus.DELETED)
-                .message(this.message)
-                .profileImg(this.profileImg)
-                .build();
-    }
-
 }
@@ -1,24 +1,19 @@
 package com.example.decoratemycakebackend.domain.friend.entity;
 
-import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 수락된 친구 관계를 (작은 회원 id, 큰 회원 id) 한 행으로 저장한다.
+ * 친구 여부 확인은 기본 키 조회 한 번이며, 친구 요청의 수락/삭제 시 함께 갱신된다.
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
-public class Friendship {
-    @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    private Long id;
-
-    @ManyToOne
-    @JoinColumn(name = "member1_id")
-    private Member member1;
-
-    @ManyToOne
-    @JoinColumn(name = "member2_id")
-    private Member member2;
-}
\ No newline at end of file
+@Table(indexes = @Index(name = "idx_friendship_high_member_id", columnList = "high_member_id"))
+public class Friendship extends BaseEntity {
+    @EmbeddedId
+    private FriendshipId id;
+}
@@ -0,0 +1,27 @@
+package com.example.decoratemycakebackend.domain.friend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+// 친구 관계의 복합 키. 방향이 없도록 항상 작은 회원 id를 low, 큰 회원 id를 high에 둔다.
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FriendshipId implements Serializable {
+    @Column(name = "low_member_id", nullable = false)
+    private Long lowMemberId;
+
+    @Column(name = "high_member_id", nullable = false)
+    private Long highMemberId;
+
+    public static FriendshipId of(Long memberId, Long otherMemberId) {
+        return memberId < otherMemberId
+                ? new FriendshipId(memberId, otherMemberId)
+                : new FriendshipId(otherMemberId, memberId);
+    }
+}
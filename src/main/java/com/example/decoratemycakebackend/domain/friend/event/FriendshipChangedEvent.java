@@ -0,0 +1,7 @@
+package com.example.decoratemycakebackend.domain.friend.event;
+
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+
+// 친구 관계가 생기거나(added = true) 삭제되었을 때 발행. 커밋 이후 FriendGraph에 반영된다.
+public record FriendshipChangedEvent(FriendshipId friendshipId, boolean added) {
+}
@@ -0,0 +1,105 @@
+package com.example.decoratemycakebackend.domain.friend.repository;
+
+import com.example.decoratemycakebackend.domain.friend.entity.FriendRequestStatus;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 친구 요청 일괄 처리용 JDBC 배치 쿼리.
+ * 항목마다 같은 조건부 UPDATE 를 한 번의 배치로 보내고, 항목별 반영 행 수를 그대로 반환한다.
+ * 호출하는 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FriendBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // senderIds 가 receiverId 에게 보낸 요청을 expected 상태일 때만 next 로 변경
+    public int[] updateStatus(List<Long> senderIds, Long receiverId, FriendRequestStatus expected, FriendRequestStatus next) {
+        return jdbcTemplate.batchUpdate(
+                "UPDATE friend_request SET status = ? WHERE sender_id = ? AND receiver_id = ? AND status = ?",
+                senderIds.stream().map(senderId -> new Object[]{next.name(), senderId, receiverId, expected.name()}).toList());
+    }
+
+    // 방향과 관계없이 수락된 요청을 DELETED 로 변경
+    public int[] deleteAccepted(Long memberId, List<Long> friendIds) {
+        return jdbcTemplate.batchUpdate(
+                "UPDATE friend_request SET status = 'DELETED' WHERE status = 'ACCEPTED' " +
+                        "AND ((sender_id = ? AND receiver_id = ?) OR (sender_id = ? AND receiver_id = ?))",
+                friendIds.stream().map(friendId -> new Object[]{memberId, friendId, friendId, memberId}).toList());
+    }
+
+    // senderId 와 receiverIds 각각의 쌍을 id 오름차순으로 잠근다. FriendRequestRepository.lockPair 와 같은 키를 쓴다.
+    // 잠금 함수는 volatile 이므로 ORDER BY 이후에 평가되어 항상 같은 순서로 잠긴다.
+    public void lockPairs(Long senderId, List<Long> receiverIds) {
+        jdbcTemplate.query(
+                "SELECT pg_advisory_xact_lock(hashtextextended(" +
+                        "'friend_request:' || LEAST(?, receiver_id) || ':' || GREATEST(?, receiver_id), 0)) " +
+                        "FROM unnest(CAST(? AS bigint[])) AS target(receiver_id) ORDER BY receiver_id",
+                rs -> {
+                },
+                senderId, senderId, receiverIds.toArray(new Long[0]));
+    }
+
+    /**
+     * 친구 요청 일괄 전송. FriendRequestRepository.sendFriendRequest 와 같은 조건을 수신자 목록 전체에 한 문장으로 적용한다.
+     * 상대가 보낸 대기중/수락된 요청이 있으면 "REVERSE_상태", 새로 보냈으면 "SENT", 그 외에는 기존 요청의 상태를 수신자 id 별로 반환한다.
+     * 같은 트랜잭션에서 lockPairs 를 먼저 호출해야 반대 방향의 동시 요청과 겹치지 않는다.
+     */
+    public Map<Long, String> sendRequests(Long senderId, List<Long> receiverIds, String message) {
+        Map<Long, String> results = new HashMap<>();
+        jdbcTemplate.query(
+                "WITH target AS (" +
+                        "    SELECT DISTINCT receiver_id FROM unnest(CAST(? AS bigint[])) AS t(receiver_id)" +
+                        "), reverse_request AS (" +
+                        "    SELECT fr.sender_id AS receiver_id, fr.status FROM friend_request fr JOIN target t ON fr.sender_id = t.receiver_id " +
+                        "    WHERE fr.receiver_id = ? AND fr.status IN ('PENDING', 'ACCEPTED')" +
+                        "), upserted AS (" +
+                        "    INSERT INTO friend_request (id, sender_id, receiver_id, status, message) " +
+                        "    SELECT nextval('friend_request_seq'), ?, t.receiver_id, 'PENDING', ? FROM target t " +
+                        "    WHERE NOT EXISTS (SELECT 1 FROM reverse_request r WHERE r.receiver_id = t.receiver_id) " +
+                        "    ORDER BY t.receiver_id " +
+                        "    ON CONFLICT (sender_id, receiver_id) DO UPDATE SET status = 'PENDING', message = EXCLUDED.message " +
+                        "    WHERE friend_request.status IN ('REJECTED', 'DELETED') " +
+                        "    RETURNING receiver_id" +
+                        ") " +
+                        "SELECT t.receiver_id, CASE " +
+                        "    WHEN r.status IS NOT NULL THEN 'REVERSE_' || r.status " +
+                        "    WHEN u.receiver_id IS NOT NULL THEN 'SENT' " +
+                        "    ELSE COALESCE((SELECT fr.status FROM friend_request fr WHERE fr.sender_id = ? AND fr.receiver_id = t.receiver_id), 'PENDING') " +
+                        "END AS result " +
+                        "FROM target t " +
+                        "LEFT JOIN reverse_request r ON r.receiver_id = t.receiver_id " +
+                        "LEFT JOIN upserted u ON u.receiver_id = t.receiver_id",
+                rs -> {
+                    results.put(rs.getLong("receiver_id"), rs.getString("result"));
+                },
+                receiverIds.toArray(new Long[0]), senderId, senderId, message, senderId);
+        return results;
+    }
+
+    public void insertFriendships(List<FriendshipId> ids) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO friendship (low_member_id, high_member_id, created_at, updated_at) " +
+                        "VALUES (?, ?, CURRENT_DATE, CURRENT_DATE) ON CONFLICT DO NOTHING",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setLong(1, id.getLowMemberId());
+                    ps.setLong(2, id.getHighMemberId());
+                });
+    }
+
+    public void deleteFriendships(List<FriendshipId> ids) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM friendship WHERE low_member_id = ? AND high_member_id = ?",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setLong(1, id.getLowMemberId());
+                    ps.setLong(2, id.getHighMemberId());
+                });
+    }
+}
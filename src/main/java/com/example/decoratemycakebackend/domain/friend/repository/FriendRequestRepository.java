@@ -1,21 +1,103 @@
 package com.example.decoratemycakebackend.domain.friend.repository;
 
+import com.example.decoratemycakebackend.domain.friend.dto.FriendRequestListResponseDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendRequestStatusDto;
 import com.example.decoratemycakebackend.domain.friend.entity.FriendRequest;
 import com.example.decoratemycakebackend.domain.friend.entity.FriendRequestStatus;
 import com.example.decoratemycakebackend.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FriendRequestRepository extends JpaRepository<FriendRequest, Long> {
     Optional<FriendRequest> findBySenderAndReceiver(Member sender, Member receiver);
 
+    /**
+     * 친구 요청 전송을 한 문장으로 처리한다.
+     * 상대가 보낸 대기중/수락된 요청이 있으면 아무것도 쓰지 않고 "REVERSE_상태" 를,
+     * 새로 넣었거나 거절/삭제된 요청을 다시 대기중으로 바꿨으면 "SENT" 를,
+     * 그 외(대기중/수락된 요청이 이미 있음)에는 기존 요청의 상태를 반환한다.
+     * (sender_id, receiver_id) 유니크 제약과 ON CONFLICT 상태 조건으로 같은 방향의 동시 요청에도 행이 하나만 남는다.
+     * 반대 방향의 동시 요청은 서로의 행을 보지 못하므로, 같은 트랜잭션에서 lockPair 를 먼저 호출해야 한다.
+     */
+    @Transactional
+    @Query(value = "WITH reverse_request AS (" +
+            "    SELECT status FROM friend_request " +
+            "    WHERE sender_id = :receiverId AND receiver_id = :senderId AND status IN ('PENDING', 'ACCEPTED')" +
+            "), upserted AS (" +
+            "    INSERT INTO friend_request (id, sender_id, receiver_id, status, message) " +
+            "    SELECT nextval('friend_request_seq'), :senderId, :receiverId, 'PENDING', :message " +
+            "    WHERE NOT EXISTS (SELECT 1 FROM reverse_request) " +
+            "    ON CONFLICT (sender_id, receiver_id) DO UPDATE SET status = 'PENDING', message = EXCLUDED.message " +
+            "    WHERE friend_request.status IN ('REJECTED', 'DELETED') " +
+            "    RETURNING id" +
+            ") " +
+            "SELECT CASE " +
+            "    WHEN EXISTS (SELECT 1 FROM reverse_request) THEN 'REVERSE_' || (SELECT status FROM reverse_request) " +
+            "    WHEN EXISTS (SELECT 1 FROM upserted) THEN 'SENT' " +
+            // 같은 문장의 스냅샷에는 동시에 커밋된 행이 보이지 않을 수 있으므로, 없으면 대기중으로 본다
+            "    ELSE COALESCE((SELECT status FROM friend_request WHERE sender_id = :senderId AND receiver_id = :receiverId), 'PENDING') " +
+            "END",
+            nativeQuery = true)
+    String sendFriendRequest(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId, @Param("message") String message);
+
+    /**
+     * 두 회원 사이의 친구 요청 전송을 방향과 관계없이 직렬화하는 트랜잭션 단위 advisory lock.
+     * (작은 id, 큰 id) 쌍으로 잠그므로 A→B 와 B→A 가 같은 잠금을 기다리고, 트랜잭션이 끝나면 풀린다.
+     * 잠금 이후 문장은 새 스냅샷으로 실행되어 먼저 커밋된 반대 방향 요청을 보게 된다.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended(" +
+            "'friend_request:' || LEAST(:memberId, :otherId) || ':' || GREATEST(:memberId, :otherId), 0))) AS pair_lock",
+            nativeQuery = true)
+    Integer lockPair(@Param("memberId") Long memberId, @Param("otherId") Long otherId);
+
     @Query("SELECT fr FROM FriendRequest fr WHERE (fr.receiver = :member OR fr.sender = :member) AND fr.status = 'ACCEPTED'")
     List<FriendRequest> findAcceptedFriendRequestsByMember(@Param("member") Member member);
 
+    @Query("SELECT CASE WHEN fr.sender.memberId = :memberId THEN fr.receiver.email ELSE fr.sender.email END " +
+            "FROM FriendRequest fr WHERE (fr.sender.memberId = :memberId OR fr.receiver.memberId = :memberId) AND fr.status = 'ACCEPTED'")
+    List<String> findFriendEmailsByMemberId(@Param("memberId") Long memberId);
+
+    boolean existsBySender_MemberIdAndReceiver_MemberId(Long senderId, Long receiverId);
+
+    // 일괄 처리에서 반영되지 않은 요청의 원인 구분용. 요청이 존재하는 발신자 id
+    @Query("SELECT fr.sender.memberId FROM FriendRequest fr WHERE fr.receiver.memberId = :receiverId AND fr.sender.memberId IN :senderIds")
+    List<Long> findSenderIdsByReceiverId(@Param("receiverId") Long receiverId, @Param("senderIds") Collection<Long> senderIds);
+
+    // 로그인 한 유저와 memberIds 사이에 오간 대기중 요청. 방향은 발신자/수신자 id로 구분
+    @Query("SELECT new com.example.decoratemycakebackend.domain.friend.dto.FriendRequestStatusDto(fr.sender.memberId, fr.receiver.memberId, fr.status) " +
+            "FROM FriendRequest fr WHERE fr.status = 'PENDING' AND " +
+            "((fr.sender.memberId = :memberId AND fr.receiver.memberId IN :memberIds) OR (fr.receiver.memberId = :memberId AND fr.sender.memberId IN :memberIds))")
+    List<FriendRequestStatusDto> findPendingBetween(@Param("memberId") Long memberId, @Param("memberIds") Collection<Long> memberIds);
+
+    // 상태 전이. 요청이 기대한 상태일 때만 바꾸고, 바뀐 행 수(0 또는 1)를 반환
+    @Modifying
+    @Query("UPDATE FriendRequest fr SET fr.status = :next " +
+            "WHERE fr.sender.memberId = :senderId AND fr.receiver.memberId = :receiverId AND fr.status = :expected")
+    int updateStatus(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+                     @Param("expected") FriendRequestStatus expected, @Param("next") FriendRequestStatus next);
+
+    // 친구 삭제. 누가 보낸 요청이었는지와 관계없이 수락된 요청을 DELETED 로 변경
+    @Modifying
+    @Query("UPDATE FriendRequest fr SET fr.status = 'DELETED' WHERE fr.status = 'ACCEPTED' AND " +
+            "((fr.sender.memberId = :memberId AND fr.receiver.memberId = :friendId) OR (fr.sender.memberId = :friendId AND fr.receiver.memberId = :memberId))")
+    int deleteAccepted(@Param("memberId") Long memberId, @Param("friendId") Long friendId);
+
     List<FriendRequest> findByReceiverAndStatus(Member receiver, FriendRequestStatus status);
     Optional<FriendRequest> findBySenderAndReceiverAndStatus(Member sender, Member receiver, FriendRequestStatus status);
+
+    // 받은 친구 요청 페이지. 최근 요청부터, 요청 id를 커서로 사용
+    @Query("SELECT new com.example.decoratemycakebackend.domain.friend.dto.FriendRequestListResponseDto(" +
+            "s.memberId, s.nickname, s.email, s.birthday, s.profileImg, fr.id) " +
+            "FROM FriendRequest fr JOIN fr.sender s " +
+            "WHERE fr.receiver.memberId = :receiverId AND fr.status = 'PENDING' AND fr.id < :cursorId " +
+            "ORDER BY fr.id DESC")
+    List<FriendRequestListResponseDto> findPendingPageByReceiverId(@Param("receiverId") Long receiverId, @Param("cursorId") Long cursorId, Pageable pageable);
 }
@@ -1,10 +1,67 @@
 package com.example.decoratemycakebackend.domain.friend.repository;
 
+import com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto;
 import com.example.decoratemycakebackend.domain.friend.entity.Friendship;
-import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
-    void deleteByMember1AndMember2(Member member1, Member member2);
-    boolean existsByMember1AndMember2(Member member1, Member member2);
+import java.util.List;
+
+public interface FriendshipRepository extends JpaRepository<Friendship, FriendshipId> {
+    // 키를 직접 지정하는 엔티티라 save()는 조회 후 저장하므로, 이미 있으면 무시하는 insert 한 번으로 처리
+    @Modifying
+    @Query(value = "INSERT INTO friendship (low_member_id, high_member_id, created_at, updated_at) " +
+            "VALUES (:#{#id.lowMemberId}, :#{#id.highMemberId}, CURRENT_DATE, CURRENT_DATE) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") FriendshipId id);
+
+    @Modifying
+    @Query("DELETE FROM Friendship f WHERE f.id = :id")
+    int deleteFriendship(@Param("id") FriendshipId id);
+
+    // 키 순서 페이지 조회. (lowMemberId, highMemberId) 다음 행부터 반환
+    @Query("SELECT f.id FROM Friendship f " +
+            "WHERE f.id.lowMemberId > :lowMemberId OR (f.id.lowMemberId = :lowMemberId AND f.id.highMemberId > :highMemberId) " +
+            "ORDER BY f.id.lowMemberId, f.id.highMemberId")
+    List<FriendshipId> findIdsAfter(@Param("lowMemberId") Long lowMemberId, @Param("highMemberId") Long highMemberId, Pageable pageable);
+
+    // 친구 목록 페이지. 친구 관계 한 행에서 상대 회원을 찾아 필요한 컬럼만 조회한다.
+    String FRIEND_PROJECTION = "SELECT new com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto(" +
+            "m.memberId, m.nickname, m.email, m.birthday, m.profileImg) " +
+            "FROM Friendship f JOIN Member m " +
+            "ON m.memberId = CASE WHEN f.id.lowMemberId = :memberId THEN f.id.highMemberId ELSE f.id.lowMemberId END " +
+            "WHERE (f.id.lowMemberId = :memberId OR f.id.highMemberId = :memberId) ";
+
+    // 오늘(MMdd) 이후 생일은 그대로, 지난 생일은 내년으로 보내 다가오는 순서가 되도록 하는 정렬 키
+    String UPCOMING_BIRTHDAY_KEY = "(CASE WHEN m.birthdayMonthDay >= :today THEN m.birthdayMonthDay ELSE m.birthdayMonthDay + 10000 END)";
+
+    @Query(FRIEND_PROJECTION + "AND m.memberId > :cursorId ORDER BY m.memberId")
+    List<FriendListResponseDto> findFriendPageOrderById(@Param("memberId") Long memberId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(FRIEND_PROJECTION + "AND (m.nickname > :nickname OR (m.nickname = :nickname AND m.memberId > :cursorId)) " +
+            "ORDER BY m.nickname, m.memberId")
+    List<FriendListResponseDto> findFriendPageOrderByNickname(@Param("memberId") Long memberId, @Param("nickname") String nickname,
+                                                             @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(FRIEND_PROJECTION + "AND (" + UPCOMING_BIRTHDAY_KEY + " > :birthdayKey " +
+            "OR (" + UPCOMING_BIRTHDAY_KEY + " = :birthdayKey AND m.memberId > :cursorId)) " +
+            "ORDER BY " + UPCOMING_BIRTHDAY_KEY + ", m.memberId")
+    List<FriendListResponseDto> findFriendPageOrderByUpcomingBirthday(@Param("memberId") Long memberId, @Param("today") int today,
+                                                                     @Param("birthdayKey") int birthdayKey, @Param("cursorId") Long cursorId,
+                                                                     Pageable pageable);
+
+    // 생일(MMdd)이 from ~ to 범위인 친구. 연말을 넘어가지 않는 범위
+    @Query(FRIEND_PROJECTION + "AND m.birthdayMonthDay BETWEEN :from AND :to ORDER BY m.birthdayMonthDay, m.memberId")
+    List<FriendListResponseDto> findFriendsWithBirthdayBetween(@Param("memberId") Long memberId, @Param("from") int from,
+                                                              @Param("to") int to, Pageable pageable);
+
+    // 연말을 넘어가는 범위 (예: 12/20 ~ 1/10). from 이후를 먼저, 다음 해의 to 이전을 뒤에 정렬
+    @Query(FRIEND_PROJECTION + "AND (m.birthdayMonthDay >= :today OR m.birthdayMonthDay <= :to) " +
+            "ORDER BY " + UPCOMING_BIRTHDAY_KEY + ", m.memberId")
+    List<FriendListResponseDto> findFriendsWithBirthdayWrappingYear(@Param("memberId") Long memberId, @Param("today") int from,
+                                                                   @Param("to") int to, Pageable pageable);
 }
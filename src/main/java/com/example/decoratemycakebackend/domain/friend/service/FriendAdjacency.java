@@ -0,0 +1,223 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import java.util.Arrays;
+
+/**
+ * 회원 id -> 정렬된 친구 id 배열(long[])을 저장하는 open addressing 해시 맵.
+ * 박싱된 Long이나 컬렉션 없이 원시 배열만 사용한다. 동기화는 사용하는 쪽(FriendGraph)에서 한다.
+ * 회원 id는 1부터 발급되므로 0을 빈 칸 표시로 사용한다.
+ */
+class FriendAdjacency {
+    static final long[] EMPTY = new long[0];
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    private long[] keys;
+    private long[][] values;
+    private int size;
+    private long edgeEntries;
+
+    FriendAdjacency(int expectedMembers) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedMembers * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity][];
+    }
+
+    long[] get(long memberId) {
+        int slot = find(memberId);
+        return slot < 0 ? EMPTY : values[slot];
+    }
+
+    boolean contains(long memberId, long friendId) {
+        return Arrays.binarySearch(get(memberId), friendId) >= 0;
+    }
+
+    // 정렬을 유지하며 추가. 이미 있으면 false
+    boolean add(long memberId, long friendId) {
+        int slot = slotFor(memberId);
+        long[] friends = values[slot];
+        int index = Arrays.binarySearch(friends, friendId);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[friends.length + 1];
+        System.arraycopy(friends, 0, updated, 0, insertAt);
+        updated[insertAt] = friendId;
+        System.arraycopy(friends, insertAt, updated, insertAt + 1, friends.length - insertAt);
+        values[slot] = updated;
+        edgeEntries++;
+        return true;
+    }
+
+    boolean remove(long memberId, long friendId) {
+        int slot = find(memberId);
+        if (slot < 0) {
+            return false;
+        }
+        long[] friends = values[slot];
+        int index = Arrays.binarySearch(friends, friendId);
+        if (index < 0) {
+            return false;
+        }
+        long[] updated = friends.length == 1 ? EMPTY : new long[friends.length - 1];
+        System.arraycopy(friends, 0, updated, 0, index);
+        System.arraycopy(friends, index + 1, updated, index, friends.length - index - 1);
+        values[slot] = updated;
+        edgeEntries--;
+        return true;
+    }
+
+    /**
+     * 적재 시 사용. 친구 관계 (low, high) 목록으로 한 번에 만든다.
+     * 회원별 친구 수를 먼저 세어 정확한 크기의 배열을 한 번만 할당하고, 채운 뒤 한 번 정렬한다.
+     * 키 순서로 읽은 목록이면 각 배열이 이미 정렬된 상태로 채워지므로 정렬은 거의 비용이 없다.
+     */
+    static FriendAdjacency fromEdges(long[] lows, long[] highs, int edgeCount) {
+        FriendAdjacency adjacency = new FriendAdjacency(edgeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            adjacency.slotFor(lows[i]);
+            adjacency.slotFor(highs[i]);
+        }
+
+        // 재해싱이 끝난 뒤의 slot 기준으로 친구 수를 센다.
+        int[] degrees = new int[adjacency.keys.length];
+        for (int i = 0; i < edgeCount; i++) {
+            degrees[adjacency.find(lows[i])]++;
+            degrees[adjacency.find(highs[i])]++;
+        }
+        for (int slot = 0; slot < degrees.length; slot++) {
+            if (degrees[slot] > 0) {
+                adjacency.values[slot] = new long[degrees[slot]];
+            }
+        }
+
+        int[] filled = new int[degrees.length];
+        for (int i = 0; i < edgeCount; i++) {
+            int lowSlot = adjacency.find(lows[i]);
+            int highSlot = adjacency.find(highs[i]);
+            adjacency.values[lowSlot][filled[lowSlot]++] = highs[i];
+            adjacency.values[highSlot][filled[highSlot]++] = lows[i];
+        }
+        for (int slot = 0; slot < degrees.length; slot++) {
+            if (degrees[slot] > 0) {
+                Arrays.sort(adjacency.values[slot]);
+            }
+        }
+        adjacency.edgeEntries = 2L * edgeCount;
+        return adjacency;
+    }
+
+    // 정렬된 두 배열의 공통 원소 수. 크기 차이가 크면 작은 쪽 원소를 큰 쪽에서 이진 탐색한다.
+    static int intersectionCount(long[] a, long[] b) {
+        if (a.length > b.length) {
+            long[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int count = 0;
+        if ((long) a.length * 8 < b.length) {
+            int from = 0;
+            for (long value : a) {
+                int index = Arrays.binarySearch(b, from, b.length, value);
+                if (index >= 0) {
+                    count++;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return count;
+        }
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    int members() {
+        return size;
+    }
+
+    // 친구 관계 하나가 양쪽 회원에 저장되므로 절반이 실제 친구 관계 수
+    long edges() {
+        return edgeEntries / 2;
+    }
+
+    // 키/값 배열과 각 친구 배열의 대략적인 크기 (compressed oops 기준)
+    long estimatedBytes() {
+        long bytes = ARRAY_HEADER_BYTES + 8L * keys.length
+                + ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * values.length;
+        for (long[] friends : values) {
+            if (friends != null && friends != EMPTY) {
+                bytes += ARRAY_HEADER_BYTES + 8L * friends.length;
+            }
+        }
+        return bytes;
+    }
+
+    private int find(long memberId) {
+        int mask = keys.length - 1;
+        for (int slot = hash(memberId) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == memberId) {
+                return slot;
+            }
+            if (keys[slot] == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private int slotFor(long memberId) {
+        int slot = find(memberId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        slot = hash(memberId) & mask;
+        while (keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = memberId;
+        values[slot] = EMPTY;
+        size++;
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[][] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2][];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static int hash(long memberId) {
+        long h = memberId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import com.example.decoratemycakebackend.domain.friend.dto.FriendBirthdayResponseDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendshipRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
+import com.example.decoratemycakebackend.global.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.decoratemycakebackend.global.util.BirthdayUtil.getNextBirthday;
+import static com.example.decoratemycakebackend.global.util.BirthdayUtil.toMonthDay;
+
+@Service
+@RequiredArgsConstructor
+public class FriendBirthdayService {
+    private static final int MAX_SIZE = 100;
+    private static final int MAX_DAYS = 365;
+    private final FriendshipRepository friendshipRepository;
+    private final MemberCache memberCache;
+
+    /**
+     * 오늘부터 days일 이내에 생일인 친구를 생일이 가까운 순으로 조회.
+     * 생일 월일 컬럼의 범위 조건으로 DB에서 걸러 오며, 범위가 연말을 넘어가면 (from 이후 OR to 이전)으로 조회한다.
+     */
+    public List<FriendBirthdayResponseDto> getUpcomingBirthdays(int days, int size) {
+        Long memberId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+        LocalDate today = LocalDate.now();
+        int window = Math.max(0, Math.min(days, MAX_DAYS - 1));
+        PageRequest pageRequest = PageRequest.of(0, Math.max(1, Math.min(size, MAX_SIZE)));
+
+        int from = toMonthDay(today);
+        int to = toMonthDay(today.plusDays(window));
+        // 윤년이 아닌 해에는 2월 29일생의 생일을 2월 28일로 보므로, 2월 28일이 범위 끝이면 2월 29일까지 포함
+        if (to == 228 && !today.plusDays(window).isLeapYear()) {
+            to = 229;
+        }
+
+        List<FriendListResponseDto> friends = from <= to
+                ? friendshipRepository.findFriendsWithBirthdayBetween(memberId, from, to, pageRequest)
+                : friendshipRepository.findFriendsWithBirthdayWrappingYear(memberId, from, to, pageRequest);
+
+        LocalDate yesterday = today.minusDays(1);
+        return friends.stream()
+                .map(friend -> {
+                    LocalDate nextBirthday = getNextBirthday(yesterday, friend.getBirthday());
+                    return new FriendBirthdayResponseDto(friend.getMemberId(), friend.getNickname(), friend.getEmail(),
+                            friend.getBirthday(), friend.getProfileImg(), nextBirthday, ChronoUnit.DAYS.between(today, nextBirthday));
+                })
+                .sorted(Comparator.comparingLong(FriendBirthdayResponseDto::getDaysUntilBirthday))
+                .toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import com.example.decoratemycakebackend.domain.friend.dto.FriendBulkAction;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendBulkRequestDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendBulkResultDto;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendRequestStatus;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import com.example.decoratemycakebackend.domain.friend.event.FriendshipChangedEvent;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendBatchRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendRequestRepository;
+import com.example.decoratemycakebackend.domain.member.dto.MemberIdDto;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FriendBulkService {
+    private final FriendBatchRepository friendBatchRepository;
+    private final FriendRequestRepository friendRequestRepository;
+    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 받은 친구 요청 일괄 수락/거절, 친구 일괄 삭제.
+     * 회원은 이메일 IN 조회 한 번으로 찾고, 상태 전이는 항목별 조건부 UPDATE 를 배치로 한 트랜잭션에서 실행한다.
+     * 항목별 결과를 입력 순서대로 반환하며, 일부 항목이 실패해도 나머지는 반영된다.
+     */
+    @Transactional
+    public List<FriendBulkResultDto> apply(FriendBulkRequestDto requestDto) {
+        Long currentMemberId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+        List<String> emails = requestDto.getEmails().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .distinct()
+                .toList();
+
+        Map<String, Long> idsByEmail = memberRepository.findIdsByEmailIn(emails).stream()
+                .collect(Collectors.toMap(MemberIdDto::email, MemberIdDto::memberId));
+
+        Map<String, FriendBulkResultDto> results = new HashMap<>();
+        List<String> targetEmails = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        for (String email : emails) {
+            Long memberId = idsByEmail.get(email);
+            if (memberId == null) {
+                results.put(email, FriendBulkResultDto.failure(email, ErrorCode.MEMBER_NOT_FOUND));
+            } else if (memberId.equals(currentMemberId)) {
+                results.put(email, FriendBulkResultDto.failure(email, ErrorCode.BAD_REQUEST));
+            } else {
+                targetEmails.add(email);
+                targetIds.add(memberId);
+            }
+        }
+
+        if (!targetIds.isEmpty()) {
+            int[] counts = switch (requestDto.getAction()) {
+                case ACCEPT -> friendBatchRepository.updateStatus(targetIds, currentMemberId, FriendRequestStatus.PENDING, FriendRequestStatus.ACCEPTED);
+                case REJECT -> friendBatchRepository.updateStatus(targetIds, currentMemberId, FriendRequestStatus.PENDING, FriendRequestStatus.REJECTED);
+                case DELETE -> friendBatchRepository.deleteAccepted(currentMemberId, targetIds);
+            };
+            collectResults(requestDto.getAction(), currentMemberId, targetEmails, targetIds, counts, results);
+        }
+
+        return emails.stream().map(results::get).toList();
+    }
+
+    private void collectResults(FriendBulkAction action, Long currentMemberId, List<String> targetEmails, List<Long> targetIds,
+                                int[] counts, Map<String, FriendBulkResultDto> results) {
+        List<FriendshipId> changed = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < targetIds.size(); i++) {
+            if (counts[i] > 0) {
+                changed.add(FriendshipId.of(currentMemberId, targetIds.get(i)));
+            } else {
+                failedIds.add(targetIds.get(i));
+            }
+        }
+
+        // 수락되거나 삭제된 항목만 친구 관계 테이블에 반영
+        if (action == FriendBulkAction.ACCEPT && !changed.isEmpty()) {
+            friendBatchRepository.insertFriendships(changed);
+        } else if (action == FriendBulkAction.DELETE && !changed.isEmpty()) {
+            friendBatchRepository.deleteFriendships(changed);
+        }
+        changed.forEach(id -> eventPublisher.publishEvent(new FriendshipChangedEvent(id, action == FriendBulkAction.ACCEPT)));
+
+        // 반영되지 않은 수락/거절은 요청이 없는지, 이미 처리되었는지 한 번에 구분
+        Set<Long> existingSenderIds = action != FriendBulkAction.DELETE && !failedIds.isEmpty()
+                ? new HashSet<>(friendRequestRepository.findSenderIdsByReceiverId(currentMemberId, failedIds))
+                : Set.of();
+        for (int i = 0; i < targetIds.size(); i++) {
+            String email = targetEmails.get(i);
+            if (counts[i] > 0) {
+                results.put(email, FriendBulkResultDto.success(email));
+            } else if (action == FriendBulkAction.DELETE) {
+                results.put(email, FriendBulkResultDto.failure(email, ErrorCode.NOT_FRIEND));
+            } else {
+                results.put(email, FriendBulkResultDto.failure(email, existingSenderIds.contains(targetIds.get(i))
+                        ? ErrorCode.FRIEND_REQUEST_STATUS_CONFLICT : ErrorCode.FRIEND_REQUEST_NOT_FOUND));
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import com.example.decoratemycakebackend.domain.friend.event.FriendshipChangedEvent;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendshipRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * 수락된 친구 관계를 서버 메모리에 올려둔 그래프. 회원마다 정렬된 친구 id 배열을 가지므로
+ * 친구 여부는 이진 탐색, 친구 수와 친구 id 목록은 배열 조회로 DB 없이 응답한다.
+ *
+ * 시작 시 Friendship 테이블을 키 순서대로 나누어 읽어 적재하고, 적재가 끝나기 전에는 ready()가 false이다.
+ * 친구 관계 변경은 커밋 이후 이 서버에 바로 반영하고 Redis pub/sub으로 다른 서버에도 전달한다.
+ * 적재 중에 들어온 변경은 모아두었다가 적재가 끝난 뒤 순서대로 다시 반영한다.
+ * pub/sub 메시지가 유실되면 다음 재적재까지 다른 서버의 그래프가 어긋날 수 있으므로, 권한 판단은 DB로 한다.
+ */
+@Slf4j
+@Component
+public class FriendGraph implements MessageListener {
+    private static final String CHANNEL = "friend:graph";
+
+    private final FriendshipRepository friendshipRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean enabled;
+    private final int loadBatchSize;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<FriendshipChangedEvent> changesWhileLoading = new ArrayList<>();
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private FriendAdjacency adjacency = new FriendAdjacency(16);
+    private boolean loading;
+    private volatile boolean ready;
+
+    public FriendGraph(FriendshipRepository friendshipRepository,
+                       RedisTemplate<String, Object> redisTemplate,
+                       RedisMessageListenerContainer redisMessageListenerContainer,
+                       MeterRegistry meterRegistry,
+                       @Value("${friend.graph.enabled:true}") boolean enabled,
+                       @Value("${friend.graph.load-batch-size:10000}") int loadBatchSize) {
+        this.friendshipRepository = friendshipRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.loadBatchSize = loadBatchSize;
+        Gauge.builder("friend.graph.members", this, graph -> graph.read(FriendAdjacency::members)).register(meterRegistry);
+        Gauge.builder("friend.graph.edges", this, graph -> graph.read(FriendAdjacency::edges)).register(meterRegistry);
+        Gauge.builder("friend.graph.memory", this, graph -> graph.read(FriendAdjacency::estimatedBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 요청 처리를 막지 않도록 별도 스레드에서 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(this::reload, "friend-graph-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // 서버 간 메시지 순서가 뒤바뀌어 생길 수 있는 차이를 주기적으로 바로잡는다.
+    @Scheduled(cron = "${friend.graph.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        if (enabled && ready) {
+            reload();
+        }
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+
+    public boolean isFriend(long memberId, long otherMemberId) {
+        lock.readLock().lock();
+        try {
+            return adjacency.contains(memberId, otherMemberId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int friendCount(long memberId) {
+        lock.readLock().lock();
+        try {
+            return adjacency.get(memberId).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 정렬된 친구 id 배열. 내부 배열은 변경 시 교체되므로 그대로 반환해도 안전하지만, 호출하는 쪽에서 수정하면 안 된다.
+    public long[] friendIds(long memberId) {
+        lock.readLock().lock();
+        try {
+            return adjacency.get(memberId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int mutualFriendCount(long memberId, long otherMemberId) {
+        lock.readLock().lock();
+        try {
+            return FriendAdjacency.intersectionCount(adjacency.get(memberId), adjacency.get(otherMemberId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 그래프에 반영된 변경을 받아볼 리스너 등록. 다른 서버에서 전달된 변경과 재적재도 포함된다.
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        apply(event);
+        try {
+            FriendshipId id = event.friendshipId();
+            redisTemplate.convertAndSend(CHANNEL, String.join(":", instanceId, event.added() ? "A" : "D",
+                    String.valueOf(id.getLowMemberId()), String.valueOf(id.getHighMemberId())));
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish friend graph change. event={}", event, e);
+        }
+    }
+
+    // 다른 서버에서 보낸 변경. 자신이 보낸 메시지는 이미 반영했으므로 무시한다.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 4 || parts[0].equals(instanceId)) {
+            return;
+        }
+        FriendshipId id = FriendshipId.of(Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        apply(new FriendshipChangedEvent(id, "A".equals(parts[1])));
+    }
+
+    private void apply(FriendshipChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                changesWhileLoading.add(event);
+            }
+            applyTo(adjacency, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        listeners.forEach(listener -> listener.onChanged(event));
+    }
+
+    private void reload() {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                return;
+            }
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.nanoTime();
+        FriendAdjacency loaded;
+        try {
+            // 행 수로 배열 크기를 잡고, (low, high) 키 순서로 나누어 읽어 원시 배열에 모은 뒤 한 번에 만든다.
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, friendshipRepository.count()));
+            long[] lows = new long[capacity];
+            long[] highs = new long[capacity];
+            int edgeCount = 0;
+            FriendshipId last = FriendshipId.of(0L, 0L);
+            List<FriendshipId> page;
+            do {
+                page = friendshipRepository.findIdsAfter(last.getLowMemberId(), last.getHighMemberId(), PageRequest.of(0, loadBatchSize));
+                if (edgeCount + page.size() > lows.length) {
+                    // 적재 중에 친구 관계가 늘어난 경우
+                    int grown = Math.max(edgeCount + page.size(), lows.length + (lows.length >> 1));
+                    lows = Arrays.copyOf(lows, grown);
+                    highs = Arrays.copyOf(highs, grown);
+                }
+                for (FriendshipId id : page) {
+                    lows[edgeCount] = id.getLowMemberId();
+                    highs[edgeCount] = id.getHighMemberId();
+                    edgeCount++;
+                }
+                if (!page.isEmpty()) {
+                    last = page.get(page.size() - 1);
+                }
+            } while (page.size() == loadBatchSize);
+            loaded = FriendAdjacency.fromEdges(lows, highs, edgeCount);
+        } catch (RuntimeException e) {
+            log.error("Failed to load friend graph", e);
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                changesWhileLoading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesWhileLoading.forEach(event -> applyTo(loaded, event));
+            changesWhileLoading.clear();
+            adjacency = loaded;
+            loading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        listeners.forEach(ChangeListener::onReloaded);
+        log.info("Friend graph loaded. members={}, edges={}, estimatedBytes={}, elapsedMs={}",
+                loaded.members(), loaded.edges(), loaded.estimatedBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static void applyTo(FriendAdjacency target, FriendshipChangedEvent event) {
+        long low = event.friendshipId().getLowMemberId();
+        long high = event.friendshipId().getHighMemberId();
+        if (event.added()) {
+            target.add(low, high);
+            target.add(high, low);
+        } else {
+            target.remove(low, high);
+            target.remove(high, low);
+        }
+    }
+
+    private long read(ToLongFunction<FriendAdjacency> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.applyAsLong(adjacency);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public interface ChangeListener {
+        void onChanged(FriendshipChangedEvent event);
+
+        void onReloaded();
+    }
+}
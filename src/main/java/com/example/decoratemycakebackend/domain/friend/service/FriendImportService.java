@@ -0,0 +1,153 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import com.example.decoratemycakebackend.domain.friend.dto.*;
+import com.example.decoratemycakebackend.domain.friend.entity.Friendship;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendBatchRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendRequestRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendshipRepository;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
+import com.example.decoratemycakebackend.global.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FriendImportService {
+    // IN 절 하나에 넣는 최대 항목 수
+    private static final int CHUNK_SIZE = 500;
+    // 친구 요청을 한 트랜잭션에서 보내는 최대 인원. 쌍마다 잡는 advisory lock 이 커밋까지 유지되므로
+    // PostgreSQL 기본 max_locks_per_transaction(64) 아래로 유지한다.
+    private static final int REQUEST_CHUNK_SIZE = 50;
+    private final MemberRepository memberRepository;
+    private final FriendBatchRepository friendBatchRepository;
+    private final FriendRequestRepository friendRequestRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final FriendGraph friendGraph;
+    private final MemberCache memberCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 연락처 이메일 목록으로 가입한 회원과 친구 관계를 조회한다.
+     * 이메일을 정규화/중복 제거한 뒤 소문자 이메일 인덱스에 대한 IN 조회를 CHUNK_SIZE 단위로 나누어 실행하고,
+     * sendRequest 이면 아직 관계가 없는 회원에게 친구 요청을 REQUEST_CHUNK_SIZE 명씩 한 번의 배치로 보낸다.
+     */
+    public ContactImportResponseDto importContacts(ContactImportRequestDto requestDto) {
+        Long currentMemberId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+
+        Set<String> emails = new LinkedHashSet<>();
+        int invalidCount = 0;
+        for (String email : requestDto.getEmails()) {
+            String normalized = normalize(email);
+            if (normalized == null) {
+                invalidCount++;
+            } else {
+                emails.add(normalized);
+            }
+        }
+
+        List<ContactMatchDto> members = new ArrayList<>();
+        for (List<String> chunk : chunk(new ArrayList<>(emails))) {
+            members.addAll(memberRepository.findContactsByLowerEmailIn(chunk));
+        }
+        members.removeIf(member -> member.getMemberId().equals(currentMemberId));
+        members.sort(Comparator.comparing(ContactMatchDto::getMemberId));
+
+        fillFriendStatus(currentMemberId, members);
+
+        int requestsSent = 0;
+        if (requestDto.isSendRequest()) {
+            List<ContactMatchDto> targets = members.stream()
+                    .filter(member -> member.getFriendStatus() == ContactFriendStatus.NONE)
+                    .toList();
+            // 단건 전송과 같은 쌍 잠금과 역방향 확인 upsert 를 묶음 단위로 한 문장씩 실행하고, 묶음마다 커밋해 잠금을 풀어준다.
+            // 회원 id 오름차순이면 (작은 id, 큰 id) 쌍도 같은 순서로 잠기므로 동시에 가져오기를 해도 교착되지 않는다.
+            for (List<ContactMatchDto> chunk : chunk(targets, REQUEST_CHUNK_SIZE)) {
+                List<Long> receiverIds = chunk.stream().map(ContactMatchDto::getMemberId).toList();
+                Map<Long, String> results = transactionTemplate.execute(status -> {
+                    friendBatchRepository.lockPairs(currentMemberId, receiverIds);
+                    return friendBatchRepository.sendRequests(currentMemberId, receiverIds, requestDto.getMessage());
+                });
+                for (ContactMatchDto target : chunk) {
+                    switch (results.getOrDefault(target.getMemberId(), "PENDING")) {
+                        case "SENT" -> {
+                            target.setFriendStatus(ContactFriendStatus.REQUEST_SENT);
+                            requestsSent++;
+                        }
+                        case "REVERSE_PENDING" -> target.setFriendStatus(ContactFriendStatus.REQUEST_RECEIVED);
+                        case "REVERSE_ACCEPTED", "ACCEPTED" -> target.setFriendStatus(ContactFriendStatus.FRIEND);
+                        default -> target.setFriendStatus(ContactFriendStatus.REQUEST_SENT);
+                    }
+                }
+            }
+        }
+
+        return new ContactImportResponseDto(emails.size(), invalidCount, members, requestsSent);
+    }
+
+    // 친구 관계는 메모리 그래프에서, 대기중 요청은 IN 조회로 확인
+    private void fillFriendStatus(Long currentMemberId, List<ContactMatchDto> members) {
+        Map<Long, ContactMatchDto> byId = members.stream()
+                .collect(Collectors.toMap(ContactMatchDto::getMemberId, Function.identity()));
+        List<Long> memberIds = new ArrayList<>(byId.keySet());
+
+        for (List<Long> chunk : chunk(memberIds)) {
+            for (FriendRequestStatusDto request : friendRequestRepository.findPendingBetween(currentMemberId, chunk)) {
+                boolean sent = request.senderId().equals(currentMemberId);
+                byId.get(sent ? request.receiverId() : request.senderId())
+                        .setFriendStatus(sent ? ContactFriendStatus.REQUEST_SENT : ContactFriendStatus.REQUEST_RECEIVED);
+            }
+        }
+
+        if (friendGraph.ready()) {
+            for (ContactMatchDto member : members) {
+                if (friendGraph.isFriend(currentMemberId, member.getMemberId())) {
+                    member.setFriendStatus(ContactFriendStatus.FRIEND);
+                }
+            }
+            return;
+        }
+        for (List<Long> chunk : chunk(memberIds)) {
+            List<FriendshipId> ids = chunk.stream().map(memberId -> FriendshipId.of(currentMemberId, memberId)).toList();
+            for (Friendship friendship : friendshipRepository.findAllById(ids)) {
+                FriendshipId id = friendship.getId();
+                Long friendId = id.getLowMemberId().equals(currentMemberId) ? id.getHighMemberId() : id.getLowMemberId();
+                byId.get(friendId).setFriendStatus(ContactFriendStatus.FRIEND);
+            }
+        }
+    }
+
+    // 앞뒤 공백과 mailto: 접두어를 제거하고 소문자로 바꾼다. 회원의 소문자 이메일과 비교하므로 대소문자만 다른 주소도 찾는다. 형식이 아니면 null
+    static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        String value = email.trim();
+        if (value.regionMatches(true, 0, "mailto:", 0, 7)) {
+            value = value.substring(7).trim();
+        }
+        int at = value.lastIndexOf('@');
+        if (at <= 0 || at == value.length() - 1 || value.indexOf('@') != at || value.chars().anyMatch(Character::isWhitespace)) {
+            return null;
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values) {
+        return chunk(values, CHUNK_SIZE);
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            chunks.add(values.subList(i, Math.min(values.size(), i + size)));
+        }
+        return chunks;
+    }
+}
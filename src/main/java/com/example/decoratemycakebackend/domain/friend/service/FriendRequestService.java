@@ -3,98 +3,98 @@ package com.example.decoratemycakebackend.domain.friend.service;
 import com.example.decoratemycakebackend.domain.friend.dto.*;
 import com.example.decoratemycakebackend.domain.friend.entity.FriendRequest;
 import com.example.decoratemycakebackend.domain.friend.entity.FriendRequestStatus;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import com.example.decoratemycakebackend.domain.friend.event.FriendshipChangedEvent;
 import com.example.decoratemycakebackend.domain.friend.repository.FriendRequestRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendshipRepository;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
 import com.example.decoratemycakebackend.domain.member.entity.Member;
 import com.example.decoratemycakebackend.domain.member.mapper.MemberMapper;
 import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
 import com.example.decoratemycakebackend.global.error.CustomException;
 import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.CursorPageDto;
 import com.example.decoratemycakebackend.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.example.decoratemycakebackend.global.util.BirthdayUtil.toMonthDay;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FriendRequestService {
+    private static final int MAX_PAGE_SIZE = 100;
     private final FriendRequestRepository friendRequestRepository;
+    private final FriendshipRepository friendshipRepository;
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
+    private final MemberCache memberCache;
+    private final FriendGraph friendGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 친구 요청 보내기
+    @Transactional
     public void sendFriendRequest(FriendRequestDto friendRequestDto) {
 
-        // 두 계정의 유효성 확인
-        Member sender = memberRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-        Member receiver = memberRepository.findByEmail(friendRequestDto.getReceiverEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-        // 기존에 수신자가 발신자에게 먼저 보낸 요청이 있는지 확인
-        Optional<FriendRequest> existingReceiverRequest = friendRequestRepository.findBySenderAndReceiver(receiver, sender);
-        if (existingReceiverRequest.isPresent()) {
-            throw new CustomException(ErrorCode.ALREADY_RECEIVED_REQUEST);
+        // 두 계정의 유효성 확인. 캐시된 회원 정보에서 id 만 사용
+        Long senderId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+        Long receiverId = memberCache.getByEmail(friendRequestDto.getReceiverEmail()).getMemberId();
+        if (senderId.equals(receiverId)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
         }
 
-        // 기존 요청 확인
-        Optional<FriendRequest> existingRequest = friendRequestRepository.findBySenderAndReceiver(sender, receiver);
-
-        if (existingRequest.isPresent()) {
-            FriendRequest friendRequest = existingRequest.get();
-            switch (friendRequest.getStatus()) {
-                case REJECTED, DELETED:
-                    // 거절 또는 삭제된 요청이었던 상태를 승인 대기중 상태로 변경
-                    FriendRequest updatedRequest = friendRequest.updateToPending(friendRequestDto.getMessage());
-                    friendRequestRepository.save(updatedRequest);
-                    break;
-                case PENDING:
-                    // 이미 승인 대기중인 요청이 있는 경우
-                    throw new CustomException(ErrorCode.DUPLICATE_FRIEND_REQUEST);
-                case ACCEPTED:
-                    // 이미 친구 관계인 경우
-                    throw new CustomException(ErrorCode.ALREADY_FRIEND);
-            }
-        } else {
-            // 신규 요청이라면 새로운 친구 요청 엔티티 생성
-            FriendRequest friendRequest = FriendRequest.builder()
-                    .receiver(receiver)
-                    .sender(sender)
-                    .status(FriendRequestStatus.PENDING)
-                    .message(friendRequestDto.getMessage())
-                    .build();
-
-            friendRequestRepository.save(friendRequest);
+        // 반대 방향의 동시 요청과 둘 다 대기중으로 들어가지 않도록 두 회원 쌍을 잠근 뒤,
+        // 역방향 요청 확인, 신규 저장, 거절/삭제된 요청 재전송을 한 번의 upsert 로 처리
+        friendRequestRepository.lockPair(senderId, receiverId);
+        String result = friendRequestRepository.sendFriendRequest(senderId, receiverId, friendRequestDto.getMessage());
+        switch (result) {
+            case "SENT":
+                break;
+            case "REVERSE_PENDING":
+                // 수신자가 발신자에게 먼저 보낸 요청이 있는 경우
+                throw new CustomException(ErrorCode.ALREADY_RECEIVED_REQUEST);
+            case "REVERSE_ACCEPTED", "ACCEPTED":
+                // 이미 친구 관계인 경우
+                throw new CustomException(ErrorCode.ALREADY_FRIEND);
+            default:
+                // 이미 승인 대기중인 요청이 있는 경우
+                throw new CustomException(ErrorCode.DUPLICATE_FRIEND_REQUEST);
         }
     }
 
     // 친구 요청 수락/거절 메서드
+    @Transactional
     public String confirmFriendRequest(FriendRequestAnswerDto friendRequestAnswerDto) {
         // 유효한 계정인지 확인
-        Member sender = memberRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-        Member receiver = memberRepository.findByEmail(friendRequestAnswerDto.getReceiverEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        Long senderId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+        Long receiverId = memberCache.getByEmail(friendRequestAnswerDto.getReceiverEmail()).getMemberId();
 
-        // 두 계정간에 요청이 존재하는지 확인, 요청에 대한 답신이므로 두 매개변수를 반전시켰음.
-        FriendRequest friendRequest = friendRequestRepository.findBySenderAndReceiver(receiver, sender)
-                .orElseThrow(() -> new CustomException(ErrorCode.FRIEND_REQUEST_NOT_FOUND));
+        // 요청에 대한 답신이므로 두 매개변수를 반전시켰음. 대기중인 요청만 수락/거절된다.
+        FriendRequestStatus next = friendRequestAnswerDto.isAccepted() ? FriendRequestStatus.ACCEPTED : FriendRequestStatus.REJECTED;
+        if (friendRequestRepository.updateStatus(receiverId, senderId, FriendRequestStatus.PENDING, next) == 0) {
+            throw transitionFailure(receiverId, senderId);
+        }
 
         if (friendRequestAnswerDto.isAccepted()) {
-            FriendRequest acceptedRequest = friendRequest.acceptRequest();
-            friendRequestRepository.save(acceptedRequest);
+            // 친구 관계 테이블에 추가
+            FriendshipId friendshipId = FriendshipId.of(senderId, receiverId);
+            friendshipRepository.insertIfAbsent(friendshipId);
+            eventPublisher.publishEvent(new FriendshipChangedEvent(friendshipId, true));
             return "친구 요청이 수락되었습니다!";
         } else {
-            FriendRequest rejectedRequest = friendRequest.rejectRequest();
-            friendRequestRepository.save(rejectedRequest);
-
             return "친구 요청이 거부되었습니다.";
         }
     }
@@ -102,8 +102,17 @@ public class FriendRequestService {
     // 친구 목록 열람
     public List<FriendListResponseDto> getFriendList() {
         // 로그인 된 유저의 이메일의 유효성 검사
-        Member member = memberRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        MemberSnapshot currentMember = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+
+        // 친구 그래프가 준비되어 있으면 친구 id로 회원 정보만 기본 키 IN 조회
+        if (friendGraph.ready()) {
+            List<Long> friendIds = Arrays.stream(friendGraph.friendIds(currentMember.getMemberId())).boxed().toList();
+            return memberRepository.findAllById(friendIds).stream()
+                    .map(memberMapper::toFriendListResponseDto)
+                    .collect(Collectors.toList());
+        }
+
+        Member member = memberRepository.getReferenceById(currentMember.getMemberId());
 
         // 해당 멤버에 매핑된 친구 요청 목록중 ACCEPTED 상태인 것들만 가져오기
         List<FriendRequest> acceptedFriendRequests = friendRequestRepository.findAcceptedFriendRequestsByMember(member);
@@ -111,7 +120,8 @@ public class FriendRequestService {
         // 로그인 한 유저가 받은 친구 요청인지, 보낸 친구 요청인지 판단하여 해당 엔티티를 dto로 변환, 클라이언트로 반환.
         return acceptedFriendRequests.stream()
                 .map(friendRequest -> {
-                    Member friend = friendRequest.getReceiver().equals(member) ? friendRequest.getSender() : friendRequest.getReceiver();
+                    Member friend = friendRequest.getReceiver().getMemberId().equals(currentMember.getMemberId())
+                            ? friendRequest.getSender() : friendRequest.getReceiver();
                     return memberMapper.toFriendListResponseDto(friend);
                 })
                 .collect(Collectors.toList());
@@ -119,8 +129,7 @@ public class FriendRequestService {
 
     // 유저가 받은 친구 요청 리스트 열람. 친구 요청 상태가 PENDING으로 되어있는 것들만 추출하여 그 발신자 목록을 반환함.
     public List<FriendRequestListResponseDto> getFriendRequestList() {
-        Member member = memberRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        Member member = getMemberReference(SecurityUtil.getCurrentUserEmail());
 
         // 해당 유저에게 매핑된 친구 요청 엔티티중 PENDING 상태인 것들을 골라서 리스트로 할당
         List<FriendRequest> friendRequests = friendRequestRepository.findByReceiverAndStatus(member, FriendRequestStatus.PENDING);
@@ -132,35 +141,116 @@ public class FriendRequestService {
 
     }
 
+    /**
+     * 친구 목록 페이지 조회. 정렬 기준별로 (정렬 값, 회원 id)를 커서로 사용한다.
+     * BIRTHDAY 정렬은 첫 페이지를 조회한 날짜를 커서에 담아 다음 페이지에서도 같은 기준일로 이어서 조회한다.
+     */
+    public CursorPageDto<FriendListResponseDto> getFriendPage(FriendListSort sort, String cursor, int size) {
+        Long memberId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        String[] parts = parseCursor(cursor, sort == FriendListSort.ID ? 1 : sort == FriendListSort.NICKNAME ? 2 : 3);
+
+        try {
+            switch (sort) {
+                case NICKNAME: {
+                    String nickname = parts == null ? "" : new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+                    Long cursorId = parts == null ? 0L : Long.parseLong(parts[1]);
+                    return CursorPageDto.of(friendshipRepository.findFriendPageOrderByNickname(memberId, nickname, cursorId, pageRequest),
+                            pageSize, friend -> Base64.getUrlEncoder().withoutPadding()
+                                    .encodeToString(friend.getNickname().getBytes(StandardCharsets.UTF_8)) + ":" + friend.getMemberId());
+                }
+                case BIRTHDAY: {
+                    int today = parts == null ? toMonthDay(LocalDate.now()) : Integer.parseInt(parts[0]);
+                    int birthdayKey = parts == null ? -1 : Integer.parseInt(parts[1]);
+                    Long cursorId = parts == null ? 0L : Long.parseLong(parts[2]);
+                    return CursorPageDto.of(friendshipRepository.findFriendPageOrderByUpcomingBirthday(memberId, today, birthdayKey, cursorId, pageRequest),
+                            pageSize, friend -> today + ":" + upcomingBirthdayKey(friend.getBirthday(), today) + ":" + friend.getMemberId());
+                }
+                default: {
+                    Long cursorId = parts == null ? 0L : Long.parseLong(parts[0]);
+                    return CursorPageDto.of(friendshipRepository.findFriendPageOrderById(memberId, cursorId, pageRequest),
+                            pageSize, friend -> String.valueOf(friend.getMemberId()));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 잘못된 숫자, Base64 형식의 커서
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+    }
+
+    // 받은 친구 요청 페이지 조회. 최근 요청부터 반환
+    public CursorPageDto<FriendRequestListResponseDto> getFriendRequestPage(String cursor, int size) {
+        Long memberId = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail()).getMemberId();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String[] parts = parseCursor(cursor, 1);
+        Long cursorId;
+        try {
+            cursorId = parts == null ? Long.MAX_VALUE : Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+
+        return CursorPageDto.of(friendRequestRepository.findPendingPageByReceiverId(memberId, cursorId, PageRequest.of(0, pageSize + 1)),
+                pageSize, request -> String.valueOf(request.getFriendRequestId()));
+    }
+
     // 친구 삭제
     @Transactional
     public void deleteFriend(String friendEmail) {
-        Member currentMember = memberRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-        log.info("Current member: {}", currentMember.getEmail());
-
-        Member friendMember = memberRepository.findByEmail(friendEmail)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-        log.info("Friend member: {}", friendMember.getEmail());
-
-        // 두 멤버가 이미 친구 상태인지 조회
-        FriendRequest friendRequest = friendRequestRepository.findBySenderAndReceiverAndStatus(friendMember, currentMember, FriendRequestStatus.ACCEPTED)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FRIEND));
-
-        // 친구 요청 상태를 DELETED로 변경. 실제로 제거하지는 않았음.
-        FriendRequest deletedRequest = friendRequest.deleteRequest();
-        friendRequestRepository.save(deletedRequest);
-        log.info("Friendship deleted between {} and {}", currentMember.getEmail(), friendMember.getEmail());
+        String currentEmail = SecurityUtil.getCurrentUserEmail();
+        Long currentMemberId = memberCache.getByEmail(currentEmail).getMemberId();
+        log.info("Current member: {}", currentEmail);
+
+        Long friendMemberId = memberCache.getByEmail(friendEmail).getMemberId();
+        log.info("Friend member: {}", friendEmail);
+
+        // 친구 요청 상태를 DELETED로 변경. 실제로 제거하지는 않았음. 수락된 요청이 없으면 친구가 아님
+        if (friendRequestRepository.deleteAccepted(currentMemberId, friendMemberId) == 0) {
+            throw new CustomException(ErrorCode.NOT_FRIEND);
+        }
+        // 친구 관계 테이블에서는 제거
+        FriendshipId friendshipId = FriendshipId.of(currentMemberId, friendMemberId);
+        friendshipRepository.deleteFriendship(friendshipId);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(friendshipId, false));
+        log.info("Friendship deleted between {} and {}", currentEmail, friendEmail);
     }
 
-    // 친구 관계 양방향으로 확인하고 그래도 없으면 false 반환
-    public boolean isFriend(Member currentMember, Member someone) {
-        Optional<FriendRequest> friendRequest = friendRequestRepository.findBySenderAndReceiverAndStatus(someone, currentMember, FriendRequestStatus.ACCEPTED);
+    /**
+     * 열람/작성 권한 확인용 친구 여부. 친구 관계 테이블의 기본 키 조회 한 번으로 확인한다.
+     * 메모리의 친구 그래프는 서버 간 변경 전달이 유실되면 다음 재적재까지 어긋날 수 있으므로 권한 판단에는 쓰지 않는다.
+     * 화면 표시용 친구 여부, 친구 수, 추천은 FriendGraph를 사용한다.
+     */
+    public boolean isFriend(Long currentMemberId, Long someoneId) {
+        return friendshipRepository.existsById(FriendshipId.of(currentMemberId, someoneId));
+    }
 
-        if (!friendRequest.isPresent()) {
-            friendRequest = friendRequestRepository.findBySenderAndReceiverAndStatus(currentMember, someone, FriendRequestStatus.ACCEPTED);
+    private String[] parseCursor(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
         }
+        String[] parts = cursor.split(":");
+        if (parts.length != expectedParts) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+        return parts;
+    }
+
+    // FriendshipRepository.UPCOMING_BIRTHDAY_KEY와 같은 계산
+    private static int upcomingBirthdayKey(LocalDate birthday, int today) {
+        int monthDay = toMonthDay(birthday);
+        return monthDay >= today ? monthDay : monthDay + 10000;
+    }
+
+    // 상태 전이가 반영되지 않은 경우에만 원인 구분을 위해 한 번 더 조회
+    private CustomException transitionFailure(Long senderId, Long receiverId) {
+        return new CustomException(friendRequestRepository.existsBySender_MemberIdAndReceiver_MemberId(senderId, receiverId)
+                ? ErrorCode.FRIEND_REQUEST_STATUS_CONFLICT : ErrorCode.FRIEND_REQUEST_NOT_FOUND);
+    }
 
-        return friendRequest.isPresent();
+    // 캐시된 회원 정보로 존재 여부를 확인하고, 연관관계 설정과 조회 조건에 쓸 프록시를 반환
+    private Member getMemberReference(String email) {
+        MemberSnapshot member = memberCache.getByEmail(email);
+        return memberRepository.getReferenceById(member.getMemberId());
     }
 }
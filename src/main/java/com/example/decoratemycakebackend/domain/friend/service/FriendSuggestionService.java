@@ -0,0 +1,189 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import com.example.decoratemycakebackend.domain.friend.dto.FriendSuggestionResponseDto;
+import com.example.decoratemycakebackend.domain.friend.dto.MutualFriendResponseDto;
+import com.example.decoratemycakebackend.domain.friend.event.FriendshipChangedEvent;
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.domain.member.service.MemberCache;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.SecurityUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 함께 아는 친구 수와 친구 추천. 친구 그래프의 정렬된 친구 id 배열로 계산하므로 DB를 읽지 않는다.
+ * 추천 결과는 회원별로 캐시하며, 친구 관계가 바뀌면 결과가 달라지는 회원(양쪽 회원과 각자의 친구들)만 비운다.
+ */
+@Service
+public class FriendSuggestionService implements FriendGraph.ChangeListener {
+    private final FriendGraph friendGraph;
+    private final MemberCache memberCache;
+    private final MemberRepository memberRepository;
+    private final int maxSuggestions;
+    private final Cache<Long, RankedCandidates> suggestionCache;
+
+    public FriendSuggestionService(FriendGraph friendGraph,
+                                   MemberCache memberCache,
+                                   MemberRepository memberRepository,
+                                   @Value("${friend.suggestion.max-size:50}") int maxSuggestions,
+                                   @Value("${friend.suggestion.cache.maximum-size:10000}") long cacheMaximumSize,
+                                   @Value("${friend.suggestion.cache.ttl:1h}") Duration cacheTtl) {
+        this.friendGraph = friendGraph;
+        this.memberCache = memberCache;
+        this.memberRepository = memberRepository;
+        this.maxSuggestions = maxSuggestions;
+        this.suggestionCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @PostConstruct
+    void register() {
+        friendGraph.addChangeListener(this);
+    }
+
+    public MutualFriendResponseDto getMutualFriendCount(String someoneEmail) {
+        checkGraphReady();
+        MemberSnapshot currentMember = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+        MemberSnapshot someone = memberCache.getByEmail(someoneEmail);
+        return new MutualFriendResponseDto(someoneEmail, friendGraph.mutualFriendCount(currentMember.getMemberId(), someone.getMemberId()));
+    }
+
+    // 함께 아는 친구가 많은 순서로 친구가 아닌 회원을 추천
+    public List<FriendSuggestionResponseDto> getSuggestions(int size) {
+        checkGraphReady();
+        MemberSnapshot currentMember = memberCache.getByEmail(SecurityUtil.getCurrentUserEmail());
+        RankedCandidates ranked = suggestionCache.get(currentMember.getMemberId(), this::rank);
+
+        int limit = Math.max(0, Math.min(size, ranked.memberIds().length));
+        List<Long> candidateIds = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            candidateIds.add(ranked.memberIds()[i]);
+        }
+        Map<Long, Member> members = memberRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        List<FriendSuggestionResponseDto> suggestions = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            Member member = members.get(ranked.memberIds()[i]);
+            if (member != null) {
+                suggestions.add(new FriendSuggestionResponseDto(member.getMemberId(), member.getNickname(),
+                        member.getEmail(), member.getProfileImg(), ranked.mutualFriendCounts()[i]));
+            }
+        }
+        return suggestions;
+    }
+
+    // 친구 관계 (a, b)가 바뀌면 a, b와 두 사람의 친구들의 추천 결과만 달라진다.
+    @Override
+    public void onChanged(FriendshipChangedEvent event) {
+        long low = event.friendshipId().getLowMemberId();
+        long high = event.friendshipId().getHighMemberId();
+        invalidateWithFriends(low);
+        invalidateWithFriends(high);
+    }
+
+    @Override
+    public void onReloaded() {
+        suggestionCache.invalidateAll();
+    }
+
+    private void invalidateWithFriends(long memberId) {
+        suggestionCache.invalidate(memberId);
+        for (long friendId : friendGraph.friendIds(memberId)) {
+            suggestionCache.invalidate(friendId);
+        }
+    }
+
+    private RankedCandidates rank(Long memberId) {
+        long[] friends = friendGraph.friendIds(memberId);
+        long[][] friendsOfFriends = new long[friends.length][];
+        for (int i = 0; i < friends.length; i++) {
+            friendsOfFriends[i] = friendGraph.friendIds(friends[i]);
+        }
+        return rank(memberId, friends, friendsOfFriends, maxSuggestions);
+    }
+
+    /**
+     * 친구들의 친구 id 배열을 하나로 모아 정렬하면 같은 id가 연속해서 나오므로, 그 길이가 함께 아는 친구 수이다.
+     * 후보는 id 오름차순으로 모이고, 공통 친구 수는 친구 수 이하이므로 개수별 계수 정렬(안정 정렬)로 순서를 정한다.
+     * 개수가 같으면 id가 작은 회원이 앞. 박싱 없이 원시 배열만 사용한다.
+     */
+    static RankedCandidates rank(long memberId, long[] friends, long[][] friendsOfFriends, int limit) {
+        int total = 0;
+        for (long[] ids : friendsOfFriends) {
+            total += ids.length;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] ids : friendsOfFriends) {
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        Arrays.sort(all);
+
+        long[] candidateIds = new long[all.length];
+        int[] candidateCounts = new int[all.length];
+        int candidates = 0;
+        for (int start = 0; start < all.length; ) {
+            long candidateId = all[start];
+            int end = start;
+            while (end < all.length && all[end] == candidateId) {
+                end++;
+            }
+            if (candidateId != memberId && Arrays.binarySearch(friends, candidateId) < 0) {
+                candidateIds[candidates] = candidateId;
+                candidateCounts[candidates++] = end - start;
+            }
+            start = end;
+        }
+
+        // 개수가 큰 쪽부터 각 개수의 시작 위치를 구한 뒤 id 순서대로 채운다.
+        int[] positions = new int[friendsOfFriends.length + 2];
+        for (int i = 0; i < candidates; i++) {
+            positions[candidateCounts[i]]++;
+        }
+        int position = 0;
+        for (int count = positions.length - 1; count >= 0; count--) {
+            int bucketSize = positions[count];
+            positions[count] = position;
+            position += bucketSize;
+        }
+
+        int resultSize = Math.min(candidates, limit);
+        long[] memberIds = new long[resultSize];
+        int[] counts = new int[resultSize];
+        for (int i = 0; i < candidates; i++) {
+            int target = positions[candidateCounts[i]]++;
+            if (target < resultSize) {
+                memberIds[target] = candidateIds[i];
+                counts[target] = candidateCounts[i];
+            }
+        }
+        return new RankedCandidates(memberIds, counts);
+    }
+
+    private void checkGraphReady() {
+        if (!friendGraph.ready()) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    record RankedCandidates(long[] memberIds, int[] mutualFriendCounts) {
+    }
+}
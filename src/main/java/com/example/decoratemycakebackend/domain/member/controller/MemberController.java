@@ -3,6 +3,8 @@ package com.example.decoratemycakebackend.domain.member.controller;
 import com.example.decoratemycakebackend.domain.member.dto.LogInDto;
 import com.example.decoratemycakebackend.domain.member.dto.MemberDto;
 import com.example.decoratemycakebackend.domain.member.dto.RefreshTokenRequest;
+import com.example.decoratemycakebackend.domain.member.dto.RoleChangeRequestDto;
+import com.example.decoratemycakebackend.domain.member.dto.SessionDto;
 import com.example.decoratemycakebackend.domain.member.dto.SignUpDto;
 import com.example.decoratemycakebackend.domain.member.service.MemberService;
 import com.example.decoratemycakebackend.global.auth.JwtToken;
@@ -17,10 +19,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @Tag(name = "회원 관리 API", description = "회원 관련 API endpoints")
 @Slf4j
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RequestMapping("/member")
 public class MemberController {
+    private static final int MAX_DEVICE_NAME_LENGTH = 100;
     private final MemberService memberService;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -38,12 +41,16 @@ public class MemberController {
             @ApiResponse(responseCode = "404", description = "사용자 없음")
     })
     @PostMapping("/login")
-    public ResponseEntity<ResponseDto<JwtToken>> logIn(LogInDto logInDto) {
+    public ResponseEntity<ResponseDto<JwtToken>> logIn(LogInDto logInDto,
+                                                       @RequestHeader(value = "User-Agent", required = false) String userAgent) {
         String email = logInDto.getEmail();
         String password = logInDto.getPassword();
+        String deviceName = StringUtils.hasText(logInDto.getDeviceName()) ? logInDto.getDeviceName() : userAgent;
+        if (deviceName != null && deviceName.length() > MAX_DEVICE_NAME_LENGTH) {
+            deviceName = deviceName.substring(0, MAX_DEVICE_NAME_LENGTH);
+        }
 
-
-        JwtToken jwtToken = memberService.logIn(email, password);
+        JwtToken jwtToken = memberService.logIn(email, password, deviceName);
         log.debug("request email = {}, password = {}", email, password);
         log.debug("jwtToken accessToken = {}, refreshToken = {}", jwtToken.getAccessToken(), jwtToken.getRefreshToken());
 
@@ -70,13 +77,28 @@ public class MemberController {
         return SecurityUtil.getCurrentUserEmail();
     }
 
-    @Operation(summary = "Refresh Token 재발급", description = "Access Token 만료시 기존 Refresh Token을 이쪽으로 보내서 새로운 Access Token 받아가기")
+    @Operation(summary = "Refresh Token 재발급", description = "Access Token 만료시 기존 Refresh Token을 이쪽으로 보내서 새로운 Access Token 받아가기<br>" +
+            "Refresh Token도 함께 새로 발급되며, 이전 Refresh Token을 다시 사용하면 해당 기기의 세션이 폐기됨")
     @PostMapping("/refresh")
     public ResponseEntity<ResponseDto<?>> refreshToken(@RequestBody RefreshTokenRequest refreshTokenRequest) {
         JwtToken token = jwtTokenProvider.refreshAccessToken(refreshTokenRequest.getRefreshToken());
         return ResponseEntity.ok(new ResponseDto<>("Access Token 재발급 완료.", token));
     }
 
+    @Operation(summary = "회원 권한 변경", description = "관리자 전용. 회원의 권한 목록을 요청한 목록으로 바꿉니다.<br>" +
+            "이미 로그인 된 기기에는 다음 Access Token 재발급 때 새 권한이 반영됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "권한 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 권한"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "사용자 없음")
+    })
+    @PutMapping("/roles")
+    public ResponseEntity<ResponseDto<List<String>>> changeRoles(@Valid @RequestBody RoleChangeRequestDto request) {
+        List<String> roles = memberService.changeRoles(request.getEmail(), request.getRoles());
+        return ResponseEntity.ok(new ResponseDto<>("회원 권한이 변경되었습니다.", roles));
+    }
+
     @Operation(summary = "로그아웃", description = "현재 로그인 된 계정의 로그아웃")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그아웃 성공"),
@@ -85,7 +107,21 @@ public class MemberController {
     @PostMapping("/logout")
     public ResponseEntity<?> logout() {
         String email = SecurityUtil.getCurrentUserEmail();
-        memberService.logout(email);
+        memberService.logout(email, SecurityUtil.getCurrentTokenDetails());
         return ResponseEntity.ok(new ResponseDto<>("로그아웃 되었습니다ㅏ.", null));
     }
+
+    @Operation(summary = "로그인 세션 목록", description = "현재 계정으로 로그인 된 기기 목록. 현재 요청을 보낸 기기는 current: true")
+    @GetMapping("/sessions")
+    public ResponseEntity<ResponseDto<List<SessionDto>>> getSessions() {
+        List<SessionDto> sessions = memberService.getSessions(SecurityUtil.getCurrentUserEmail(), SecurityUtil.getCurrentSessionId());
+        return ResponseEntity.ok(new ResponseDto<>("로그인 세션 목록 조회가 완료되었습니다.", sessions));
+    }
+
+    @Operation(summary = "로그인 세션 폐기", description = "해당 기기의 Refresh Token을 폐기하여 재발급을 막음")
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<ResponseDto<?>> revokeSession(@PathVariable String sessionId) {
+        memberService.revokeSession(SecurityUtil.getCurrentUserEmail(), sessionId);
+        return ResponseEntity.ok(new ResponseDto<>("로그인 세션이 폐기되었습니다.", null));
+    }
 }
@@ -15,4 +15,6 @@ public class LogInDto {
     private String email;
     @Schema(description = "비밀번호", example = "!test1234", required = true)
     private String password;
+    @Schema(description = "기기 이름. 로그인 세션 목록에 표시되며, 없으면 User-Agent를 사용", example = "iPhone 15", required = false)
+    private String deviceName;
 }
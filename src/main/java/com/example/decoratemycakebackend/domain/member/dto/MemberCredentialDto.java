@@ -0,0 +1,5 @@
+package com.example.decoratemycakebackend.domain.member.dto;
+
+// 로그인 인증에 필요한 회원 정보만 조회하는 프로젝션
+public record MemberCredentialDto(String email, String password, int roleMask, int roleVersion) {
+}
@@ -0,0 +1,5 @@
+package com.example.decoratemycakebackend.domain.member.dto;
+
+// 이메일로 회원 id만 조회할 때 쓰는 프로젝션
+public record MemberIdDto(Long memberId, String email) {
+}
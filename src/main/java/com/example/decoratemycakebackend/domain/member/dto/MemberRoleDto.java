@@ -0,0 +1,5 @@
+package com.example.decoratemycakebackend.domain.member.dto;
+
+// 회원 권한 비트 마스크와 권한 버전
+public record MemberRoleDto(int roleMask, int roleVersion) {
+}
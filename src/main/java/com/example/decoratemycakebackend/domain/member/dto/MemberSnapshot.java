@@ -0,0 +1,33 @@
+package com.example.decoratemycakebackend.domain.member.dto;
+
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 캐시에 보관하는 회원 정보. 비밀번호는 포함하지 않으며 생성 이후 변경되지 않는다.
+@Value
+@Builder
+@Jacksonized
+public class MemberSnapshot {
+    Long memberId;
+    String email;
+    String nickname;
+    LocalDate birthday;
+    String profileImg;
+    List<String> roles;
+
+    public static MemberSnapshot from(Member member) {
+        return MemberSnapshot.builder()
+                .memberId(member.getMemberId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .birthday(member.getBirthday())
+                .profileImg(member.getProfileImg())
+                .roles(List.copyOf(member.getRoles()))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.decoratemycakebackend.domain.member.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoleChangeRequestDto {
+    @Schema(description = "권한을 바꿀 회원 이메일", example = "test1234@gmail.com", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "이메일은 필수 입력 값입니다.")
+    @Email(message = "유효한 이메일 주소를 입력해주세요.")
+    private String email;
+
+    @Schema(description = "변경 후 권한 목록 (MEMBER, ADMIN)", example = "[\"MEMBER\", \"ADMIN\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "권한 목록은 필수 입력 값입니다.")
+    private List<String> roles;
+}
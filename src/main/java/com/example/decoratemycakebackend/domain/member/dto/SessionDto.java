@@ -0,0 +1,28 @@
+package com.example.decoratemycakebackend.domain.member.dto;
+
+import com.example.decoratemycakebackend.global.auth.RefreshSessionStore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@AllArgsConstructor
+public class SessionDto {
+    private String sessionId;
+    private String deviceName;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private boolean current;
+
+    public static SessionDto of(RefreshSessionStore.RefreshSession session, boolean current) {
+        return new SessionDto(session.sessionId(), session.deviceName(),
+                toLocalDateTime(session.createdAt()), toLocalDateTime(session.expiresAt()), current);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -3,23 +3,29 @@ package com.example.decoratemycakebackend.domain.member.entity;
 
 import com.example.decoratemycakebackend.domain.cake.entity.Cake;
 import com.example.decoratemycakebackend.domain.friend.entity.FriendRequest;
+import com.example.decoratemycakebackend.global.util.BirthdayUtil;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_member_email", columnList = "email", unique = true),
+        @Index(name = "idx_member_lower_email", columnList = "lower_email"),
+        @Index(name = "idx_member_nickname_member_id", columnList = "nickname, member_id"),
+        @Index(name = "idx_member_birthday_month_day_member_id", columnList = "birthday_month_day, member_id")
+})
 public class Member implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -29,6 +35,10 @@ public class Member implements UserDetails {
     @Column(nullable = false)
     private String email;
 
+    // 소문자로 바꾼 이메일. 연락처 가져오기에서 대소문자를 구분하지 않고 회원을 찾기 위한 컬럼
+    @Column(name = "lower_email")
+    private String lowerEmail;
+
     @Column(nullable = false)
     private String password;
 
@@ -38,21 +48,47 @@ public class Member implements UserDetails {
     @Column(nullable = false)
     private LocalDate birthday;
 
+    // 생일의 월*100+일 (예: 5월 17일 -> 517). 연도와 관계없이 다가오는 생일 순으로 정렬/조회하기 위한 컬럼
+    @Column(name = "birthday_month_day")
+    private Integer birthdayMonthDay;
+
     private String profileImg;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Builder.Default
-    private List<String> roles = new ArrayList<>();
+    // 권한 비트 마스크(Role). 별도 테이블 없이 회원 행에서 바로 권한을 계산한다.
+    @Column(name = "role_mask", nullable = false)
+    private int roleMask;
+
+    // 권한이 바뀔 때마다 증가. 로그인 세션에 저장된 권한이 최신인지 비교하는 데 쓴다.
+    @Column(name = "role_version", nullable = false)
+    private int roleVersion;
 
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
     private List<Cake> cakes = new ArrayList<>();
 
 
+    // 엔티티마다 같은 이벤트의 콜백은 하나만 둘 수 있으므로 파생 컬럼을 한 번에 갱신
+    @PrePersist
+    @PreUpdate
+    void syncDerivedColumns() {
+        birthdayMonthDay = birthday == null ? null : BirthdayUtil.toMonthDay(birthday);
+        lowerEmail = email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
+    public List<String> getRoles() {
+        return Role.namesOf(roleMask);
+    }
+
+    public void changeRoles(Collection<String> roles) {
+        int mask = Role.toMask(roles);
+        if (mask != roleMask) {
+            roleMask = mask;
+            roleVersion++;
+        }
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles.stream()
-                .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        return Role.authoritiesOf(roleMask);
     }
 
     @OneToMany(mappedBy = "receiver")
@@ -86,4 +122,11 @@ public class Member implements UserDetails {
         return true;
     }
 
+    // 빌더에서는 기존처럼 권한 이름 목록으로 지정
+    public static class MemberBuilder {
+        public MemberBuilder roles(Collection<String> roles) {
+            this.roleMask = Role.toMask(roles);
+            return this;
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package com.example.decoratemycakebackend.domain.member.entity;
+
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 권한. 회원 테이블에는 권한별 비트를 OR 한 값(role_mask)으로 저장한다.
+ * 비트 값은 저장된 데이터의 의미이므로 기존 권한의 비트는 바꾸지 않고, 새 권한은 다음 비트를 사용한다.
+ * 조합 가능한 마스크마다 권한 목록을 미리 만들어 두어 인증할 때 새 객체를 만들지 않는다.
+ */
+public enum Role {
+    MEMBER(1),
+    ADMIN(1 << 1);
+
+    private static final Role[] VALUES = values();
+    private static final int ALL = (1 << VALUES.length) - 1;
+    @SuppressWarnings("unchecked")
+    private static final List<String>[] NAMES = new List[ALL + 1];
+    @SuppressWarnings("unchecked")
+    private static final List<GrantedAuthority>[] AUTHORITIES = new List[ALL + 1];
+    private static final String[] AUTHORITY_STRINGS = new String[ALL + 1];
+
+    static {
+        for (int mask = 0; mask <= ALL; mask++) {
+            List<String> names = new ArrayList<>();
+            for (Role role : VALUES) {
+                if ((mask & role.bit) != 0) {
+                    names.add(role.name());
+                }
+            }
+            NAMES[mask] = List.copyOf(names);
+            AUTHORITIES[mask] = names.stream()
+                    .<GrantedAuthority>map(name -> new SimpleGrantedAuthority("ROLE_" + name))
+                    .toList();
+            AUTHORITY_STRINGS[mask] = AUTHORITIES[mask].stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.joining(","));
+        }
+    }
+
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    // 권한 이름 목록을 마스크로 변환. 없는 권한 이름이면 400
+    public static int toMask(Collection<String> roles) {
+        int mask = 0;
+        for (String name : roles) {
+            mask |= find(name).bit;
+        }
+        return mask;
+    }
+
+    private static Role find(String name) {
+        for (Role role : VALUES) {
+            if (role.name().equals(name)) {
+                return role;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_ROLE);
+    }
+
+    public static List<String> namesOf(int mask) {
+        return NAMES[mask & ALL];
+    }
+
+    // Spring Security 권한 목록(ROLE_ 접두어 포함)
+    public static List<GrantedAuthority> authoritiesOf(int mask) {
+        return AUTHORITIES[mask & ALL];
+    }
+
+    // JWT auth 클레임에 넣는 쉼표로 구분한 권한 문자열
+    public static String authorityStringOf(int mask) {
+        return AUTHORITY_STRINGS[mask & ALL];
+    }
+}
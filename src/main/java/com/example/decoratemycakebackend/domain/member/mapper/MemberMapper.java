@@ -5,17 +5,27 @@ import com.example.decoratemycakebackend.domain.friend.dto.FriendRequestListResp
 import com.example.decoratemycakebackend.domain.member.dto.MemberDto;
 import com.example.decoratemycakebackend.domain.member.dto.SignUpDto;
 import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.entity.Role;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = Role.class)
 public interface MemberMapper {
     MemberDto toMemberDto(Member member);
     FriendListResponseDto toFriendListResponseDto(Member member);
+    @Mapping(target = "friendRequestId", ignore = true)
     FriendRequestListResponseDto toFriendRequestListResponseDto(Member member);
     @Mapping(target = "password", source = "encodedPassword")
-    @Mapping(target = "roles", source = "roles")
+    @Mapping(target = "roleMask", expression = "java(Role.toMask(roles))")
+    @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "roleVersion", ignore = true)
+    @Mapping(target = "memberId", ignore = true)
+    @Mapping(target = "birthdayMonthDay", ignore = true)
+    @Mapping(target = "lowerEmail", ignore = true)
+    @Mapping(target = "cakes", ignore = true)
+    @Mapping(target = "receivedFriendRequests", ignore = true)
+    @Mapping(target = "sendFriendRequests", ignore = true)
     Member toMember(SignUpDto signUpDto, String encodedPassword, List<String> roles);
 }
@@ -1,11 +1,42 @@
 package com.example.decoratemycakebackend.domain.member.repository;
 
+import com.example.decoratemycakebackend.domain.friend.dto.ContactMatchDto;
+import com.example.decoratemycakebackend.domain.member.dto.MemberCredentialDto;
+import com.example.decoratemycakebackend.domain.member.dto.MemberIdDto;
+import com.example.decoratemycakebackend.domain.member.dto.MemberRoleDto;
 import com.example.decoratemycakebackend.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     Boolean existsByEmail(String email);
+
+    @Query("SELECT new com.example.decoratemycakebackend.domain.member.dto.MemberCredentialDto(m.email, m.password, m.roleMask, m.roleVersion) " +
+            "FROM Member m WHERE m.email = :email")
+    Optional<MemberCredentialDto> findCredentialByEmail(@Param("email") String email);
+
+    @Query("SELECT new com.example.decoratemycakebackend.domain.member.dto.MemberRoleDto(m.roleMask, m.roleVersion) FROM Member m WHERE m.email = :email")
+    Optional<MemberRoleDto> findRoleByEmail(@Param("email") String email);
+
+    // 로그인 시 bcrypt 비용이 바뀐 비밀번호를 다시 해시해 저장
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    List<Member> findByBirthdayMonthDayIn(List<Integer> birthdayMonthDays);
+
+    @Query("SELECT new com.example.decoratemycakebackend.domain.member.dto.MemberIdDto(m.memberId, m.email) FROM Member m WHERE m.email IN :emails")
+    List<MemberIdDto> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
+    // 대소문자 구분 없이 조회. emails 는 소문자로 바꿔서 전달
+    @Query("SELECT new com.example.decoratemycakebackend.domain.friend.dto.ContactMatchDto(m.memberId, m.email, m.nickname, m.profileImg) " +
+            "FROM Member m WHERE m.lowerEmail IN :emails")
+    List<ContactMatchDto> findContactsByLowerEmailIn(@Param("emails") Collection<String> emails);
 }
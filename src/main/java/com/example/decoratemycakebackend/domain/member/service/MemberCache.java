@@ -0,0 +1,150 @@
+package com.example.decoratemycakebackend.domain.member.service;
+
+import com.example.decoratemycakebackend.domain.member.dto.MemberSnapshot;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.cache.CacheStats;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 이메일로 회원 정보를 찾는 2단계 캐시.
+ * 1단계는 서버 메모리(Caffeine), 2단계는 Redis이며 둘 다 없을 때만 DB를 조회한다.
+ * 회원 정보가 바뀌면 invalidate()를 호출한다. Redis pub/sub으로 다른 서버의 1단계 캐시도 함께 비운다.
+ */
+@Slf4j
+@Component
+public class MemberCache implements MessageListener {
+    private static final String KEY_PREFIX = "member:snapshot:";
+    private static final String INVALIDATION_CHANNEL = "member:invalidate";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, MemberSnapshot> localCache;
+    private final Duration redisTtl;
+    private final CacheStats localStats = new CacheStats();
+    private final CacheStats redisStats = new CacheStats();
+
+    public MemberCache(MemberRepository memberRepository,
+                       RedisTemplate<String, Object> redisTemplate,
+                       RedisMessageListenerContainer redisMessageListenerContainer,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${member.cache.local.maximum-size:10000}") long localMaximumSize,
+                       @Value("${member.cache.local.ttl:1m}") Duration localTtl,
+                       @Value("${member.cache.redis.ttl:30m}") Duration redisTtl) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .evictionListener((key, value, cause) -> localStats.recordEviction())
+                .build();
+        localStats.bindTo(meterRegistry, "member.local");
+        redisStats.bindTo(meterRegistry, "member.redis");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public MemberSnapshot getByEmail(String email) {
+        MemberSnapshot cached = localCache.getIfPresent(email);
+        if (cached != null) {
+            localStats.recordHit();
+            return cached;
+        }
+        localStats.recordMiss();
+
+        // 같은 이메일에 대한 동시 요청은 Caffeine이 한 번만 적재한다.
+        MemberSnapshot snapshot = localCache.get(email, this::loadFromRedisOrDatabase);
+        localStats.recordPut();
+        return snapshot;
+    }
+
+    // 트래픽이 몰리기 전에 DB에서 읽어 Redis 캐시에 ttl 동안 유지되도록 저장한다.
+    public MemberSnapshot warm(String email, Duration ttl) {
+        MemberSnapshot snapshot = memberRepository.findByEmail(email)
+                .map(MemberSnapshot::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        writeToRedis(snapshot, ttl);
+        localCache.put(email, snapshot);
+        return snapshot;
+    }
+
+    // 회원 정보 변경 후 호출. 모든 서버의 1단계 캐시와 Redis 캐시를 비운다.
+    public void invalidate(String email) {
+        localCache.invalidate(email);
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + email))) {
+                redisStats.recordEviction();
+            }
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate member cache. email={}", email, e);
+        }
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private MemberSnapshot loadFromRedisOrDatabase(String email) {
+        MemberSnapshot snapshot = readFromRedis(email);
+        if (snapshot != null) {
+            redisStats.recordHit();
+            return snapshot;
+        }
+        redisStats.recordMiss();
+
+        snapshot = memberRepository.findByEmail(email)
+                .map(MemberSnapshot::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        writeToRedis(snapshot, redisTtl);
+        return snapshot;
+    }
+
+    private MemberSnapshot readFromRedis(String email) {
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+            return value == null ? null : objectMapper.readValue(value.toString(), MemberSnapshot.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read member cache. email={}", email, e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(MemberSnapshot snapshot, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.getEmail(), objectMapper.writeValueAsString(snapshot), ttl);
+            redisStats.recordPut();
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write member cache. email={}", snapshot.getEmail(), e);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.decoratemycakebackend.domain.member.service;
 
 import com.example.decoratemycakebackend.domain.member.dto.MemberDto;
+import com.example.decoratemycakebackend.domain.member.dto.SessionDto;
 import com.example.decoratemycakebackend.domain.member.dto.SignUpDto;
 import com.example.decoratemycakebackend.domain.member.entity.Member;
 import com.example.decoratemycakebackend.domain.member.mapper.MemberMapper;
 import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.auth.AccessTokenDenylist;
 import com.example.decoratemycakebackend.global.auth.JwtToken;
 import com.example.decoratemycakebackend.global.auth.JwtTokenProvider;
+import com.example.decoratemycakebackend.global.auth.RefreshSessionStore;
+import com.example.decoratemycakebackend.global.auth.TokenDetails;
 import com.example.decoratemycakebackend.global.error.CustomException;
 import com.example.decoratemycakebackend.global.error.ErrorCode;
+import com.example.decoratemycakebackend.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,6 +22,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,10 +34,13 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshSessionStore refreshSessionStore;
+    private final AccessTokenDenylist accessTokenDenylist;
     private final PasswordEncoder passwordEncoder;
     private final MemberMapper memberMapper;
+    private final MemberCache memberCache;
 
-    public JwtToken logIn(String username, String password) {
+    public JwtToken logIn(String username, String password, String deviceName) {
         // 1. username + password 기반으로 Authentication 객체 생성
         // 이때 authentication은 인증 여부를 확인하는 authenticated 값이 false
 
@@ -45,9 +54,12 @@ public class MemberService {
             Authentication authentication = authenticationManagerBuilder
                     .getObject().authenticate(authenticationToken);
 
-            return jwtTokenProvider.generateToken(authentication);
+            return jwtTokenProvider.generateToken(authentication, deviceName);
         } catch (AuthenticationException e) {
             throw new CustomException(ErrorCode.LOGIN_FAILURE);
+        } catch (CustomException e) {
+            // 비밀번호 해시 대기열이 가득 찬 경우 등은 그대로 전달
+            throw e;
         } catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
@@ -68,7 +80,42 @@ public class MemberService {
         return memberMapper.toMemberDto(savedMember);
     }
 
-    public void logout(String email) {
-        jwtTokenProvider.deleteRefreshToken(email);
+    // 회원 권한 변경(관리자). 권한 버전을 올려 기존 세션이 다음 재발급 때 새 권한을 읽도록 한다.
+    // 권한 버전 갱신과 캐시 비우기는 커밋 이후에 해서, 커밋 전의 이전 권한을 다시 읽어 저장하거나 롤백 후 버전만 앞서가지 않게 한다.
+    @Transactional
+    public List<String> changeRoles(String email, List<String> roles) {
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        int previousVersion = member.getRoleVersion();
+        member.changeRoles(roles);
+        if (member.getRoleVersion() != previousVersion) {
+            memberRepository.saveAndFlush(member);
+            int roleVersion = member.getRoleVersion();
+            TransactionUtil.afterCommit(() -> {
+                refreshSessionStore.updateRoleVersion(email, roleVersion);
+                memberCache.invalidate(email);
+            });
+        }
+        return member.getRoles();
+    }
+
+    // 현재 세션의 Refresh Token과 요청에 사용한 Access Token을 폐기
+    public void logout(String email, TokenDetails tokenDetails) {
+        jwtTokenProvider.deleteRefreshToken(email, tokenDetails.sessionId());
+        accessTokenDenylist.revoke(tokenDetails.tokenId(), tokenDetails.expiresAt());
+    }
+
+    // 로그인 된 기기(세션) 목록. 현재 요청의 세션에는 current 표시
+    public List<SessionDto> getSessions(String email, String currentSessionId) {
+        return refreshSessionStore.findAll(email).stream()
+                .map(session -> SessionDto.of(session, session.sessionId().equals(currentSessionId)))
+                .toList();
+    }
+
+    // 해당 기기의 Refresh Token 폐기. 이미 발급된 Access Token은 만료될 때까지 유효
+    public void revokeSession(String email, String sessionId) {
+        if (!refreshSessionStore.revoke(email, sessionId)) {
+            throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
+        }
     }
 }
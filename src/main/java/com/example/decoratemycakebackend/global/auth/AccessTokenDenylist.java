@@ -0,0 +1,206 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import com.example.decoratemycakebackend.global.cache.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로그아웃 등으로 폐기된 Access Token(jti) 목록.
+ * Redis ZSET에 jti를 토큰 만료 시각을 점수로 하여 보관하고, 서버마다 같은 내용을 블룸 필터로 메모리에 둔다.
+ * 블룸 필터에 없는 토큰(대부분의 요청)은 네트워크 없이 통과시키고, 있다고 나온 경우에만 Redis에서 확인한다.
+ * 폐기는 pub/sub으로 다른 서버의 필터에도 바로 추가되며, 만료된 jti를 비우기 위해 주기적으로 필터를 다시 만든다.
+ *
+ * Redis 장애 시 정책: 필터가 적재된 뒤 필터에 있다고 나온 토큰은 Redis에서 확인하지 못하면 폐기된 것으로 본다.
+ * 필터 적재 전에는 판단할 근거가 없으므로 Redis에서 확인하지 못하면 통과시키고(fail open), 적재는 간격을 늘려가며 계속 재시도한다.
+ * 폐기 목록은 로그아웃한 토큰만 담고 Access Token은 1시간 안에 만료되므로, 시작 시 Redis 장애가 모든 요청의 401로 번지지 않도록 한 것이다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+    private static final String KEY = "auth:revoked-tokens";
+    private static final String CHANNEL = "auth:revoked-tokens";
+    private static final long INITIAL_RETRY_MILLIS = 1000;
+    private static final long MAX_RETRY_MILLIS = 60_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean enabled;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter redisChecks;
+    private final Counter uncheckedPasses;
+    private final Object lock = new Object();
+    // 시작 시 적재와 주기적 재구성이 겹치지 않도록 한 번에 하나만 실행
+    private final AtomicBoolean loading = new AtomicBoolean();
+    // 재구성 중에 들어온 jti를 받을 목록. 재구성마다 새로 만들어 넘겨주고, 새 필터로 교체하기 전에 옮겨 담는다.
+    private List<String> revokedWhileLoading;
+    private volatile BloomFilter filter;
+    private volatile boolean ready;
+
+    public AccessTokenDenylist(RedisTemplate<String, Object> redisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.revocation.enabled:true}") boolean enabled,
+                               @Value("${jwt.revocation.expected-insertions:10000}") long minExpectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(minExpectedInsertions, falsePositiveRate);
+        this.redisChecks = Counter.builder("auth.revocation.redis-checks").register(meterRegistry);
+        this.uncheckedPasses = Counter.builder("auth.revocation.unchecked-passes").register(meterRegistry);
+        Gauge.builder("auth.revocation.filter.bits", this, denylist -> denylist.filter.bitSize()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(this::loadUntilReady, "token-denylist-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+
+    // 만료된 jti를 Redis와 필터에서 정리
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 */10 * * * *}")
+    public void rebuild() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    // Access Token 폐기. 이미 만료된 토큰은 기록하지 않는다.
+    public void revoke(String jti, long expiresAt) {
+        if (!enabled || jti == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        // 재구성은 Redis를 읽은 뒤 필터를 교체하므로, Redis에 먼저 기록해야 그 사이에 필터에 넣은 jti가 사라지지 않는다.
+        redisTemplate.opsForZSet().add(KEY, jti, expiresAt);
+        add(jti);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, jti);
+        } catch (DataAccessException e) {
+            // 다른 서버는 다음 재구성 때 반영된다.
+            log.warn("Failed to publish revoked token. jti={}", jti, e);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!enabled || jti == null) {
+            return false;
+        }
+        if (ready && !filter.mightContain(jti)) {
+            return false;
+        }
+        // 필터 적재 전이거나 필터에 있다고 나온 경우에만 Redis에서 확인
+        redisChecks.increment();
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(KEY, jti);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            // 필터에 있다고 나온 토큰은 폐기된 것으로 보고, 필터 적재 전이면 판단할 근거가 없으므로 통과시킨다.
+            log.warn("Failed to check revoked token. jti={}, filterReady={}", jti, ready, e);
+            if (!ready) {
+                uncheckedPasses.increment();
+            }
+            return ready;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void add(String jti) {
+        synchronized (lock) {
+            filter.put(jti);
+            if (revokedWhileLoading != null) {
+                revokedWhileLoading.add(jti);
+            }
+        }
+    }
+
+    // Redis 장애로 적재에 실패하면 간격을 늘려가며 성공할 때까지 다시 시도
+    private void loadUntilReady() {
+        long retryMillis = INITIAL_RETRY_MILLIS;
+        while (true) {
+            reload();
+            if (ready) {
+                return;
+            }
+            try {
+                Thread.sleep(retryMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            retryMillis = Math.min(retryMillis * 2, MAX_RETRY_MILLIS);
+        }
+    }
+
+    private void reload() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        List<String> buffer = new ArrayList<>();
+        synchronized (lock) {
+            revokedWhileLoading = buffer;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now);
+            Set<Object> revoked = redisTemplate.opsForZSet().rangeByScore(KEY, now, Double.POSITIVE_INFINITY);
+            int count = revoked == null ? 0 : revoked.size();
+            BloomFilter loaded = new BloomFilter(Math.max(minExpectedInsertions, count * 2L), falsePositiveRate);
+            if (revoked != null) {
+                revoked.forEach(jti -> loaded.put(String.valueOf(jti)));
+            }
+            synchronized (lock) {
+                buffer.forEach(loaded::put);
+                filter = loaded;
+            }
+            ready = true;
+            log.info("Access token denylist loaded. revoked={}", count);
+        } catch (DataAccessException e) {
+            log.warn("Failed to load access token denylist", e);
+        } finally {
+            synchronized (lock) {
+                revokedWhileLoading = null;
+            }
+            loading.set(false);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시 계산을 요청 스레드 대신 코어 수만큼의 전용 스레드에서 실행한다.
+ * 대기열이 가득 차거나 정해진 시간 안에 끝나지 않으면 바로 503으로 거절해, 로그인이 몰려도 다른 요청의 서블릿 스레드를 잡아두지 않는다.
+ * 설정된 bcrypt 비용과 다르게 저장된 해시는 upgradeEncoding이 true를 반환해 로그인 성공 시 다시 해시된다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private static final String BCRYPT_ID = "bcrypt";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(int bcryptStrength, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.of(BCRYPT_ID, new CostAwareBCryptPasswordEncoder(bcryptStrength)));
+        // bcrypt 외의 형식으로 저장된 비밀번호도 확인할 수 있도록 기본 인코더에 맡기고, 로그인 시 bcrypt로 다시 해시된다.
+        delegating.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        this.delegate = delegating;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+
+        this.encodeTimer = meterRegistry.timer("password.hash.duration", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("password.hash.duration", "operation", "matches");
+        this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 형식과 비용만 비교하므로 요청 스레드에서 바로 처리
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(hash));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에서 오래 기다린 요청은 실행하지 않도록 취소
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    // 기본 BCryptPasswordEncoder는 비용을 올릴 때만 재해시하므로, 설정된 비용과 다르면 항상 재해시하도록 비교
+    static class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+        private static final Pattern COST_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+        private final int strength;
+
+        CostAwareBCryptPasswordEncoder(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            if (encodedPassword == null || encodedPassword.isEmpty()) {
+                return false;
+            }
+            Matcher matcher = COST_PATTERN.matcher(encodedPassword);
+            if (!matcher.find()) {
+                log.warn("Encoded password does not look like BCrypt");
+                return false;
+            }
+            return Integer.parseInt(matcher.group(1)) != strength;
+        }
+    }
+}
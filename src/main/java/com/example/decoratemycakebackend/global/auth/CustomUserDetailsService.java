@@ -1,34 +1,36 @@
 package com.example.decoratemycakebackend.global.auth;
 
-import com.example.decoratemycakebackend.domain.member.entity.Member;
 import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
 import com.example.decoratemycakebackend.global.error.CustomException;
 import com.example.decoratemycakebackend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     // DB에서 유저 정보를 찾아서 UserDetails 객체로 변환하여 return
     private final MemberRepository memberRepository;
 
+    // 엔티티 대신 필요한 컬럼만 조회하고, 권한은 비트 마스크에서 바로 계산
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return memberRepository.findByEmail(username)
-                .map(this::createUserDetails)
+        return memberRepository.findCredentialByEmail(username)
+                .map(member -> new MemberPrincipal(member.email(), member.password(), member.roleMask(), member.roleVersion()))
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
-    private UserDetails createUserDetails(Member member) {
-        return User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .roles(member.getRoles().toArray(new String[0]))
-                .build();
+    // 로그인에 성공했고 저장된 해시의 형식이나 bcrypt 비용이 현재 설정과 다를 때 호출된다.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.updatePassword(user.getUsername(), newPassword);
+        MemberPrincipal principal = (MemberPrincipal) user;
+        return new MemberPrincipal(principal.getUsername(), newPassword, principal.getRoleMask(), principal.getRoleVersion());
     }
 }
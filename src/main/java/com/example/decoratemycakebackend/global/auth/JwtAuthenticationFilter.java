@@ -18,6 +18,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -28,9 +29,12 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 
         // 로그아웃 요청일 경우 redis에서 refreshToken 제거
         if (requestURI.equals("/member/logout")) {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                String username = jwtTokenProvider.getAuthentication(token).getName();
-                jwtTokenProvider.deleteRefreshToken(username);
+            Authentication authentication = authenticate(token);
+            if (authentication != null) {
+                // 해당 세션의 Refresh Token과 지금 사용한 Access Token을 함께 폐기
+                TokenDetails details = (TokenDetails) authentication.getDetails();
+                jwtTokenProvider.deleteRefreshToken(authentication.getName(), details.sessionId());
+                accessTokenDenylist.revoke(details.tokenId(), details.expiresAt());
                 ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
             } else {
                 // 토큰이 없거나 유효하지 않은 경우 에러 처리
@@ -41,10 +45,9 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         }
 
         try {
-            // 2. validateToken으로 토큰 유효성 검사
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // 유효하면 Authentication 객체를 가지고 와서 SecurityContext에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            // 2. 토큰을 한 번 검증하고, 유효하면 Authentication 객체를 가지고 와서 SecurityContext에 저장
+            Authentication authentication = authenticate(token);
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (ExpiredJwtException e) {
@@ -60,6 +63,18 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         chain.doFilter(request, response);
     }
 
+    // 서명 검증 후 폐기된 토큰인지 확인. 폐기 목록 확인은 대부분 메모리의 블룸 필터에서 끝난다.
+    private Authentication authenticate(String token) {
+        if (token == null) {
+            return null;
+        }
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+        if (authentication == null || accessTokenDenylist.isRevoked(((TokenDetails) authentication.getDetails()).tokenId())) {
+            return null;
+        }
+        return authentication;
+    }
+
     // Request Header에서 토큰 정보 추출(Bearer뒤에 문자 부분 들고옴)
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -1,12 +1,19 @@
 package com.example.decoratemycakebackend.global.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import com.example.decoratemycakebackend.domain.member.dto.MemberRoleDto;
+import com.example.decoratemycakebackend.domain.member.entity.Role;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -15,58 +22,95 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Date;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     private final Key key;
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 공유한다. 생성된 파서는 불변이라 스레드 안전
+    private final JwtParser jwtParser;
+    // 검증을 마친 Access Token의 정보. SHA-256 다이제스트를 키로 하고 토큰 만료 시각에 함께 만료된다.
+    private final Cache<String, VerifiedToken> verifiedTokens;
     private final long accessTokenValidityInMilliseconds = 60 * 60 * 1000L; // 1시간
     private final long refreshTokenValidityInMilliseconds = 14 * 24 * 60 * 60 * 1000L; // 2주
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private RefreshSessionStore refreshSessionStore;
 
-    private final CustomUserDetailsService customUserDetailsService;
+    @Autowired
+    private MemberRepository memberRepository;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, CustomUserDetailsService customUserDetailsService) {
-        this.customUserDetailsService = customUserDetailsService;
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAt() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(digest, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    // Member 정보 가지고 AccessToken, RefreshToken 생성
-    public JwtToken generateToken(Authentication authentication) {
-        // 권한 가져오기
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+    // Member 정보 가지고 AccessToken, RefreshToken 생성. 로그인마다 새 세션(기기)을 만든다.
+    public JwtToken generateToken(Authentication authentication, String deviceName) {
+        // 권한 가져오기. 로그인 시 조회한 권한 마스크와 버전을 그대로 사용
+        MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+        String sessionId = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+
+        // Refresh Token은 세션 id와 함께 Redis 세션 해시에 저장. 다른 기기의 세션은 유지된다.
+        refreshSessionStore.create(authentication.getName(), sessionId, jti, principal.getRoleMask(), principal.getRoleVersion(),
+                deviceName, refreshTokenValidityInMilliseconds);
+
+        return issueTokens(authentication.getName(), Role.authorityStringOf(principal.getRoleMask()), sessionId, jti);
+    }
+
+    private JwtToken issueTokens(String username, String authorities, String sessionId, String jti) {
         long now = (new Date()).getTime();
 
         // Access Token 생성
         Date accessTokenExpireIn = new Date(now + accessTokenValidityInMilliseconds);
         String accessToken = Jwts.builder()
-                .setSubject(authentication.getName())
+                .setSubject(username)
                 .claim("auth", authorities)
+                .claim("sid", sessionId)
+                .setId(UUID.randomUUID().toString())
                 .setExpiration(accessTokenExpireIn)
                 .signWith(key)
                 .compact();
 
-        // Refresh Token 생성
+        // Refresh Token 생성. jti는 교체할 때마다 바뀌어 이전 토큰의 재사용을 감지하는 데 쓴다.
         String refreshToken = Jwts.builder()
-                .setSubject(authentication.getName())
+                .setSubject(username)
+                .claim("sid", sessionId)
+                .setId(jti)
                 .setExpiration(new Date(now + refreshTokenValidityInMilliseconds))
                 .signWith(key)
                 .compact();
 
-        // Refresh Token을 Redis에 저장
-        redisTemplate.opsForValue().set(authentication.getName(), refreshToken, refreshTokenValidityInMilliseconds, TimeUnit.MILLISECONDS);
-
         return JwtToken.builder()
                 .grantType("Bearer")
                 .accessToken(accessToken)
@@ -74,37 +118,47 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    // Jwt 토큰을 복호화하여 토큰에 들어있는 정보를 꺼냄
-    public Authentication getAuthentication(String accessToken) {
-        // Jwt 토큰 복호화
-        Claims claims = parseClaims(accessToken);
-
-        if (claims.get("auth") == null) {
-            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+    /**
+     * Access Token을 한 번만 검증하고 Authentication을 반환한다. 유효하지 않으면 null, 만료되었으면 ExpiredJwtException.
+     * 같은 토큰이 다시 오면 캐시된 검증 결과를 사용하므로 서명 검증과 권한 문자열 분리를 생략한다.
+     */
+    public Authentication authenticate(String accessToken) {
+        String digest = digest(accessToken);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null || verified.expiresAt() <= System.currentTimeMillis()) {
+            Claims claims = verify(accessToken);
+            if (claims == null) {
+                return null;
+            }
+            verified = VerifiedToken.from(claims);
+            verifiedTokens.put(digest, verified);
         }
 
-        // claims에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-
         // UserDetails 객체를 만들어서 Authentication return
         // UserDetails는 interface이고, User는 그것을 구현한 class
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        UserDetails principal = new User(verified.subject(), "", verified.authorities());
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal, "", verified.authorities());
+        // 로그아웃, 세션 목록에서 현재 기기를 구분하고 토큰을 폐기할 수 있도록 세션 id와 jti를 담아둔다.
+        authentication.setDetails(new TokenDetails(verified.sessionId(), verified.tokenId(), verified.expiresAt()));
+        return authentication;
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    // Jwt 토큰을 복호화하여 토큰에 들어있는 정보를 꺼냄
+    public Authentication getAuthentication(String accessToken) {
+        VerifiedToken verified = VerifiedToken.from(parseClaims(accessToken));
+        UserDetails principal = new User(verified.subject(), "", verified.authorities());
+        return new UsernamePasswordAuthenticationToken(principal, "", verified.authorities());
     }
 
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        return verify(token) != null;
+    }
 
-            return true;
+    // 서명과 만료를 검증하고 Claims를 반환. 유효하지 않으면 null, 만료된 토큰은 ExpiredJwtException
+    private Claims verify(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -115,81 +169,90 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty", e);
         }
-        return false;
+        return null;
     }
 
+    /**
+     * Refresh Token으로 토큰을 재발급하고 Refresh Token도 새로 교체한다.
+     * 서명 검증은 서버에서, jti 확인과 교체, 재사용 감지는 Redis 스크립트 한 번으로 처리한다.
+     */
     public JwtToken refreshAccessToken(String refreshToken) {
         // 요청받은 Refresh Token의 유효성 검사
-        if (!validateToken(refreshToken)) {
-            throw new RuntimeException("Invalid Refresh Token");
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(refreshToken).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // Refresh Token에서 사용자 정보 추출
-        Claims claims = parseClaims(refreshToken);
+        // Refresh Token에서 사용자 정보와 세션 정보 추출
         String username = claims.getSubject();
-
-        if (username == null || username.isEmpty()) {
-            throw new RuntimeException("Invalid Refresh Token: Missing user information");
+        String sessionId = claims.get("sid", String.class);
+        String jti = claims.getId();
+        if (username == null || username.isEmpty() || sessionId == null || jti == null) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // Redis에 저장된 Refresh Token 가져오기
-        String savedRefreshToken = (String)redisTemplate.opsForValue().get(username);
-
-        if (savedRefreshToken == null) {
-            throw new RuntimeException("Refresh Token not found in Redis");
-        }
-
-        // 요청받은 Refresh Token과 Redis에 저장된 Refresh Token 비교
-        if (!refreshToken.equals(savedRefreshToken)) {
-            throw new RuntimeException("Refresh Token is not matched from redis");
+        String newJti = UUID.randomUUID().toString();
+        RefreshSessionStore.Rotation rotation = refreshSessionStore.rotate(username, sessionId, jti, newJti, refreshTokenValidityInMilliseconds);
+        switch (rotation.status()) {
+            case ROTATED:
+                return issueTokens(username, Role.authorityStringOf(rotation.roleMask()), sessionId, newJti);
+            case ROLES_CHANGED:
+                // 권한이 바뀐 경우에만 DB에서 현재 권한을 읽어 세션에 반영
+                MemberRoleDto role = memberRepository.findRoleByEmail(username)
+                        .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+                refreshSessionStore.updateRoles(username, sessionId, role.roleMask(), role.roleVersion());
+                return issueTokens(username, Role.authorityStringOf(role.roleMask()), sessionId, newJti);
+            case REUSED:
+                // 이미 교체된 Refresh Token이 다시 사용됨. 세션은 스크립트에서 폐기되었다.
+                log.warn("Refresh token reuse detected. email={}, sessionId={}", username, sessionId);
+                throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+            default:
+                throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
+    }
 
-        // Refresh Token의 만료 시간 확인
-        Date expiration = claims.getExpiration();
-        if (expiration != null && expiration.before(new Date())) {
-            // Refresh Token이 만료된 경우 Redis에서 해당 토큰 삭제. 사용자는 새로 로그인 해야함.
-            redisTemplate.delete(username);
-            throw new RuntimeException("Refresh Token has expired");
+    private Claims parseClaims(String accessToken) {
+        try {
+            return jwtParser.parseClaimsJws(accessToken).getBody();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims();
         }
-
-        // 새로운 Access Token 생성
-        long now = (new Date()).getTime();
-        Date accessTokenExpireIn = new Date(now + accessTokenValidityInMilliseconds);
-        String newAccessToken = Jwts.builder()
-                .setSubject(username)
-                .claim("auth", getUserAuthorities(username))
-                .setExpiration(accessTokenExpireIn)
-                .signWith(key)
-                .compact();
-
-        return JwtToken.builder()
-                .grantType("Bearer")
-                .accessToken(newAccessToken)
-                .refreshToken(savedRefreshToken)
-                .build();
     }
 
-    private String getUserAuthorities(String username) {
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-        return userDetails.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+    // 로그아웃. 해당 세션의 Refresh Token만 폐기하고, 세션 id가 없는 토큰이면 모든 세션을 폐기
+    public void deleteRefreshToken(String username, String sessionId) {
+        if (sessionId == null) {
+            refreshSessionStore.revokeAll(username);
+        } else {
+            refreshSessionStore.revoke(username, sessionId);
+        }
     }
 
-    private Claims parseClaims(String accessToken) {
+    private static String digest(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
-    // Redis에 저장된 RefreshToken을 삭제
-    public void deleteRefreshToken(String username) {
-        redisTemplate.delete(username);
+    // 검증된 Access Token에서 인증에 필요한 값만 보관. 권한 객체는 검증할 때 한 번만 만든다.
+    private record VerifiedToken(String subject, String sessionId, String tokenId, List<GrantedAuthority> authorities, long expiresAt) {
+        static VerifiedToken from(Claims claims) {
+            if (claims.get("auth") == null) {
+                throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+            }
+            // claims에서 권한 정보 가져오기
+            List<GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.getSubject(), claims.get("sid", String.class), claims.getId(), authorities, expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        }
     }
-}
\ No newline at end of file
+}
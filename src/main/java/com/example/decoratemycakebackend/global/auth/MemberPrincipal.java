@@ -0,0 +1,18 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import com.example.decoratemycakebackend.domain.member.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+// 로그인 시 인증 정보. 토큰 발급 때 권한을 다시 조회하지 않도록 권한 마스크와 버전을 함께 들고 있다.
+@Getter
+public class MemberPrincipal extends User {
+    private final int roleMask;
+    private final int roleVersion;
+
+    public MemberPrincipal(String username, String password, int roleMask, int roleVersion) {
+        super(username, password, Role.authoritiesOf(roleMask));
+        this.roleMask = roleMask;
+        this.roleVersion = roleVersion;
+    }
+}
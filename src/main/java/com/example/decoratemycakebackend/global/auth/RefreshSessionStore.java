@@ -0,0 +1,188 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 로그인 세션(기기) 저장소. 회원마다 Redis 해시 하나에 세션 id -> "jti|만료시각|생성시각|권한마스크:권한버전|기기명" 으로 보관한다.
+ * 해시 필드에는 TTL을 줄 수 없으므로 세션별 만료 시각을 값에 두고 스크립트에서 확인하며, 키 TTL은 가장 늦게 끝나는 세션에 맞춘다.
+ * 회원 권한이 바뀌면 권한 버전 키를 갱신하고, 재발급 스크립트가 세션의 버전과 비교해 바뀐 경우에만 DB에서 권한을 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+public class RefreshSessionStore {
+    private static final String KEY_PREFIX = "refresh:session:";
+    private static final String ROLE_VERSION_KEY_PREFIX = "auth:role-version:";
+
+    // 만료된 세션을 정리하고 새 세션을 추가. 최대 개수를 넘으면 가장 오래된 세션부터 제거
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[3])
+            local all = redis.call('HGETALL', KEYS[1])
+            for i = 1, #all, 2 do
+                local expiresAt = string.match(all[i + 1], '^[^|]*|([^|]*)|')
+                if tonumber(expiresAt) <= now then
+                    redis.call('HDEL', KEYS[1], all[i])
+                end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            while redis.call('HLEN', KEYS[1]) > tonumber(ARGV[5]) do
+                local sessions = redis.call('HGETALL', KEYS[1])
+                local oldest, oldestCreatedAt
+                for i = 1, #sessions, 2 do
+                    local createdAt = tonumber(string.match(sessions[i + 1], '^[^|]*|[^|]*|([^|]*)|'))
+                    if sessions[i] ~= ARGV[1] and (oldestCreatedAt == nil or createdAt < oldestCreatedAt) then
+                        oldest, oldestCreatedAt = sessions[i], createdAt
+                    end
+                end
+                redis.call('HDEL', KEYS[1], oldest)
+            end
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[4]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            end
+            return redis.call('HLEN', KEYS[1])
+            """, Long.class);
+
+    /*
+     * Refresh Token 교체. 제시된 jti가 저장된 jti와 같을 때만 새 jti로 바꾸고 권한 마스크를 반환한다.
+     * 이미 교체된 토큰이 다시 오면 탈취된 것으로 보고 해당 세션을 폐기한다.
+     * 결과: {"1", 마스크} 교체 성공, {"2", 마스크} 교체 성공이지만 권한이 바뀜, {"0", ""} 세션 없음/만료, {"-1", ""} 재사용 감지
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return {'0', ''}
+            end
+            local jti, expiresAt, createdAt, roles, device = string.match(value, '^([^|]*)|([^|]*)|([^|]*)|([^|]*)|(.*)$')
+            -- 권한 마스크 형식이 아닌 이전 세션은 만료된 것으로 처리해 다시 로그인하게 한다.
+            local mask, version = string.match(roles, '^(%d+):(%d+)$')
+            if not mask or tonumber(expiresAt) <= tonumber(ARGV[4]) then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return {'0', ''}
+            end
+            if jti ~= ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return {'-1', ''}
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[5] .. '|' .. createdAt .. '|' .. roles .. '|' .. device)
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[6]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            end
+            local currentVersion = redis.call('GET', KEYS[2])
+            if currentVersion and currentVersion ~= version then
+                return {'2', mask}
+            end
+            return {'1', mask}
+            """, List.class);
+
+    // 세션이 있으면 저장된 권한 마스크와 버전만 교체
+    private static final RedisScript<Long> UPDATE_ROLES_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return 0
+            end
+            local head, device = string.match(value, '^([^|]*|[^|]*|[^|]*)|[^|]*|(.*)$')
+            redis.call('HSET', KEYS[1], ARGV[1], head .. '|' .. ARGV[2] .. '|' .. device)
+            return 1
+            """, Long.class);
+
+    // 권한 버전은 커지는 방향으로만 갱신. 커밋 순서와 알림 순서가 달라도 이전 버전으로 되돌아가지 않는다.
+    private static final RedisScript<Long> UPDATE_ROLE_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if current and current >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int maxSessionsPerMember;
+
+    public RefreshSessionStore(RedisTemplate<String, Object> redisTemplate,
+                               @Value("${jwt.session.max-per-member:10}") int maxSessionsPerMember) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+    }
+
+    public void create(String email, String sessionId, String jti, int roleMask, int roleVersion, String deviceName, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        String value = jti + "|" + (now + ttlMillis) + "|" + now + "|" + roleMask + ":" + roleVersion + "|" + (deviceName == null ? "" : deviceName);
+        redisTemplate.execute(CREATE_SCRIPT, List.of(KEY_PREFIX + email),
+                sessionId, value, String.valueOf(now), String.valueOf(ttlMillis), String.valueOf(maxSessionsPerMember));
+    }
+
+    // 스크립트 한 번으로 jti 확인, 교체, 재사용 감지를 처리
+    public Rotation rotate(String email, String sessionId, String presentedJti, String newJti, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + email, ROLE_VERSION_KEY_PREFIX + email),
+                sessionId, presentedJti, newJti, String.valueOf(now), String.valueOf(now + ttlMillis), String.valueOf(ttlMillis));
+        if (result == null || result.isEmpty()) {
+            return new Rotation(RotationStatus.NOT_FOUND, 0);
+        }
+        return switch (String.valueOf(result.get(0))) {
+            case "1" -> new Rotation(RotationStatus.ROTATED, Integer.parseInt(String.valueOf(result.get(1))));
+            case "2" -> new Rotation(RotationStatus.ROLES_CHANGED, Integer.parseInt(String.valueOf(result.get(1))));
+            case "-1" -> new Rotation(RotationStatus.REUSED, 0);
+            default -> new Rotation(RotationStatus.NOT_FOUND, 0);
+        };
+    }
+
+    // 권한이 바뀐 세션에 DB에서 다시 읽은 권한을 저장
+    public void updateRoles(String email, String sessionId, int roleMask, int roleVersion) {
+        redisTemplate.execute(UPDATE_ROLES_SCRIPT, List.of(KEY_PREFIX + email), sessionId, roleMask + ":" + roleVersion);
+    }
+
+    // 회원 권한 변경을 알린다. 이후 각 세션은 다음 재발급 때 한 번만 DB에서 권한을 다시 읽는다.
+    public void updateRoleVersion(String email, int roleVersion) {
+        redisTemplate.execute(UPDATE_ROLE_VERSION_SCRIPT, List.of(ROLE_VERSION_KEY_PREFIX + email), String.valueOf(roleVersion));
+    }
+
+    // 만료되지 않은 세션 목록. 최근 로그인 순
+    public List<RefreshSession> findAll(String email) {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY_PREFIX + email);
+        List<RefreshSession> sessions = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] parts = String.valueOf(entry.getValue()).split("\\|", 5);
+            if (parts.length < 5) {
+                log.warn("Malformed refresh session. email={}, sessionId={}", email, entry.getKey());
+                continue;
+            }
+            long expiresAt = Long.parseLong(parts[1]);
+            if (expiresAt > now) {
+                sessions.add(new RefreshSession(String.valueOf(entry.getKey()), parts[4], Long.parseLong(parts[2]), expiresAt));
+            }
+        }
+        sessions.sort(Comparator.comparingLong(RefreshSession::createdAt).reversed());
+        return sessions;
+    }
+
+    public boolean revoke(String email, String sessionId) {
+        Long removed = redisTemplate.opsForHash().delete(KEY_PREFIX + email, sessionId);
+        return removed != null && removed > 0;
+    }
+
+    public void revokeAll(String email) {
+        redisTemplate.delete(KEY_PREFIX + email);
+    }
+
+    public enum RotationStatus {
+        ROTATED, ROLES_CHANGED, NOT_FOUND, REUSED
+    }
+
+    public record Rotation(RotationStatus status, int roleMask) {
+    }
+
+    public record RefreshSession(String sessionId, String deviceName, long createdAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.decoratemycakebackend.global.auth;
+
+// 인증된 Access Token의 세션 id, 토큰 id(jti), 만료 시각. Authentication의 details로 담는다.
+public record TokenDetails(String sessionId, String tokenId, long expiresAt) {
+}
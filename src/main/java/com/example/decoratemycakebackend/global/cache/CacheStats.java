@@ -0,0 +1,50 @@
+package com.example.decoratemycakebackend.global.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 적중/미스/제거 횟수를 집계한다.
+ * bindTo()로 등록하면 /actuator/metrics/cache.gets, cache.puts, cache.evictions 에서 cache 태그로 조회할 수 있다.
+ */
+@Getter
+public class CacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordPut() {
+        puts.increment();
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry, String cacheName) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", cacheName).tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", cacheName).tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.puts", puts, LongAdder::sum)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.decoratemycakebackend.global.cache;
+
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 적재 요청을 하나로 합친다.
+ * 먼저 들어온 요청(leader)만 loader를 실행하고, 나머지 요청은 정해진 시간까지 그 결과를 기다린다.
+ * leader에서 발생한 예외는 기다리던 요청에도 그대로 전달된다.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing == null) {
+            leaders.increment();
+            try {
+                V value = loader.get();
+                created.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, created);
+            }
+        }
+
+        coalesced.increment();
+        return await(existing);
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    public void bindTo(MeterRegistry meterRegistry, String name) {
+        FunctionCounter.builder("singleflight.calls", leaders, LongAdder::sum)
+                .tag("name", name).tag("role", "leader")
+                .register(meterRegistry);
+        FunctionCounter.builder("singleflight.calls", coalesced, LongAdder::sum)
+                .tag("name", name).tag("role", "coalesced")
+                .register(meterRegistry);
+        FunctionCounter.builder("singleflight.timeouts", timeouts, LongAdder::sum)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+}
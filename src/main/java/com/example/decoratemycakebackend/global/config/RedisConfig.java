@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -14,6 +15,8 @@ public class RedisConfig {
     private String redisHost;
     @Value("${spring.data.redis.port}")
     private int redisPort;
+    @Value("${redis.listener.auto-startup:true}")
+    private boolean listenerAutoStartup;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -25,6 +28,22 @@ public class RedisConfig {
         template.setConnectionFactory(redisConnectionFactory());
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    // 서버 간 캐시 무효화 등 pub/sub 메시지 수신용
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        // Redis 없이 띄우는 테스트 환경에서는 구독을 시작하지 않도록 설정으로 끌 수 있게 함
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return listenerAutoStartup;
+            }
+        };
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
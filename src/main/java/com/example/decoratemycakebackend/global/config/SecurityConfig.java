@@ -1,24 +1,29 @@
 package com.example.decoratemycakebackend.global.config;
 
+import com.example.decoratemycakebackend.global.auth.BoundedPasswordEncoder;
 import com.example.decoratemycakebackend.global.auth.JwtAuthenticationFilter;
+import com.example.decoratemycakebackend.global.auth.AccessTokenDenylist;
 import com.example.decoratemycakebackend.global.auth.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
@@ -34,22 +39,29 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(requests -> {
                     // 해당 API에 대해서는 모든 요청을 허가
-                    requests.requestMatchers("/member/login", "/member/signup",
+                    requests.requestMatchers("/member/login", "/member/signup", "/member/refresh",
                             "/swagger-ui/**", "/v3/api-docs/**").permitAll();
+                    // 회원 권한 변경은 ADMIN 권한이 있는 경우에만 허가
+                    requests.requestMatchers("/member/roles").hasRole("ADMIN");
                     // MEMBER 권한이 있는 경우에만 요청 허가
-                    requests.requestMatchers("/member/**", "/cake/**", "/candle/**," +
+                    requests.requestMatchers("/member/**", "/cake/**", "/candle/**", "/candles/**",
                             "/friend/**", "/menu/**").hasRole("MEMBER");
                     // 그 외에 모든 요청도 인증이 필요하도록 설정
                     requests.anyRequest().authenticated();
                 })
                 // JWT 인증을 위해 직접 구현한 필터를 먼저 거치고 그 후에 UsernamePasswordAuthenticatedFilter 실행
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, accessTokenDenylist),
                         UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    // 비밀번호 해시는 전용 스레드에서 실행하고, 몰리면 503으로 거절
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${password.bcrypt-strength:10}") int bcryptStrength,
+                                                  @Value("${password.hash.threads:0}") int threads,
+                                                  @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${password.hash.timeout:2s}") Duration timeout) {
+        return new BoundedPasswordEncoder(bcryptStrength, threads, queueCapacity, timeout, meterRegistry);
     }
 }
@@ -27,9 +27,16 @@ public enum ErrorCode {
      * 500 INTERNAL_SERVER_ERROR: 내부 서버 오류
      */
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
+
+    /*
+     * 503 SERVICE_UNAVAILABLE: 요청이 몰려 처리할 수 없음
+     */
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+
     VALIDATION_FAILURE(HttpStatus.BAD_REQUEST, "유효성 검사에 실패했습니다."),
     INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, "요청 본문이 유효하지 않습니다."),
     ACCOUNT_NOT_MATCHED(HttpStatus.BAD_REQUEST, "로그인 된 회원정보와 다른 유저의 요청입니다."),
+    INVALID_ROLE(HttpStatus.BAD_REQUEST, "존재하지 않는 권한입니다."),
 
 
     LOGIN_FAILURE(HttpStatus.UNAUTHORIZED, "아이디나 비밀번호가 잘못되었습니다."),
@@ -41,11 +48,15 @@ public enum ErrorCode {
     CAKE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당하는 케이크를 찾을 수 없습니다."),
     ACCESS_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "JWT ACCESS 토큰이 만료되었습니다. 토큰을 새로 발급받으세요."),
     REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "JWT REFRESH 토큰이 만료되었습니다. 다시 로그인하세요."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 JWT REFRESH 토큰입니다. 다시 로그인하세요."),
+    SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당하는 로그인 세션을 찾을 수 없습니다."),
     CANDLE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당하는 캔들을 찾을 수 없습니다."),
+    CANDLE_WRITE_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "캔들 작성 요청을 찾을 수 없습니다. 저장되지 않았다면 다시 작성해주세요."),
     FORBIDDEN_CREATE_CAKE(HttpStatus.OK, "D-30일부터 케이크를 생성할 수 있습니다."),
     ALREADY_RECEIVED_REQUEST(HttpStatus.OK, "이미 해당 회원으로부터 받은 요청이 있습니다."),
     ALREADY_CREATED_CAKE(HttpStatus.OK, "이미 해당 년도의 케이크가 존재합니다."),
-    FRIEND_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "친구 요청을 찾을 수 없습니다.");
+    FRIEND_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "친구 요청을 찾을 수 없습니다."),
+    FRIEND_REQUEST_STATUS_CONFLICT(HttpStatus.CONFLICT, "이미 처리된 친구 요청입니다.");
 
 
     private final HttpStatus status;
@@ -4,9 +4,15 @@ import java.time.LocalDate;
 
 public class BirthdayUtil {
 
+    // 오늘 이후(오늘 제외)의 다음 생일. 2월 29일생은 윤년이 아닌 해에 2월 28일로 계산한다.
     public static LocalDate getNextBirthday(LocalDate today, LocalDate birthday) {
-        LocalDate thisYearBirthday = LocalDate.of(today.getYear(), birthday.getMonthValue(), birthday.getDayOfMonth());
-        return today.isBefore(thisYearBirthday) ? thisYearBirthday : thisYearBirthday.plusYears(1);
+        LocalDate thisYearBirthday = birthday.withYear(today.getYear());
+        return today.isBefore(thisYearBirthday) ? thisYearBirthday : birthday.withYear(today.getYear() + 1);
+    }
+
+    // 월*100+일 (예: 5월 17일 -> 517). Member.birthdayMonthDay 컬럼과 같은 값
+    public static int toMonthDay(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
     }
 
 }
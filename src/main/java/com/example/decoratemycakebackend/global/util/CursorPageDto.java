@@ -0,0 +1,33 @@
+package com.example.decoratemycakebackend.global.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+// 커서(keyset) 기반 페이지 응답. nextCursor를 다음 요청의 cursor로 그대로 넘기면 된다.
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public static <T> CursorPageDto<T> empty() {
+        return new CursorPageDto<>(Collections.emptyList(), null, false);
+    }
+
+    // size + 1개를 조회한 결과를 받아 다음 페이지 존재 여부를 판단하고 마지막 원소로 커서를 만든다.
+    public static <T> CursorPageDto<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageDto<>(content, nextCursor, hasNext);
+    }
+
+    public <R> CursorPageDto<R> map(Function<T, R> mapper) {
+        return new CursorPageDto<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.decoratemycakebackend.global.util;
 
+import com.example.decoratemycakebackend.global.auth.TokenDetails;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -13,4 +14,19 @@ public class SecurityUtil {
         }
         return authentication.getName();
     }
+
+    // 현재 요청의 Access Token 정보(세션 id, jti, 만료 시각)
+    public static TokenDetails getCurrentTokenDetails() {
+        final Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getDetails() instanceof TokenDetails details)) {
+            throw new RuntimeException("No authentication information.");
+        }
+        return details;
+    }
+
+    // 현재 요청의 Access Token이 속한 로그인 세션 id. 세션 id가 없는 토큰이면 null
+    public static String getCurrentSessionId() {
+        return getCurrentTokenDetails().sessionId();
+    }
 }
@@ -1,15 +1,20 @@
 package com.example.decoratemycakebackend.domain.cake;
 
 import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
 import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -28,4 +33,29 @@ public class CakeRepositoryTest {
         assertNotNull(savedCake.getId());
         assertEquals("blue_cake", savedCake.getCakeName());
     }
+
+    @Test
+    public void savingAStaleCakeKeepsCandleCount() {
+        Long cakeId = cakeRepository.save(Cake.builder().cakeName("blue_cake").email("stale-count@test.com").createdYear(2024).build()).getId();
+        Cake stale = cakeRepository.findById(cakeId).orElseThrow();
+
+        // 케이크를 읽은 뒤 캔들 개수가 반영되어도 권한 변경이나 엔티티 저장이 덮어쓰지 않아야 한다.
+        cakeRepository.addCandleCount(cakeId, 3);
+        cakeRepository.updatePermissions(cakeId, CandleCreatePermission.ONLY_FRIENDS, CandleViewPermission.ONLY_ME, CandleCountPermission.ONLY_ME);
+        stale.setCakeName("red_cake");
+        cakeRepository.save(stale);
+
+        Cake cake = cakeRepository.findById(cakeId).orElseThrow();
+        assertEquals(3, cake.getCandleCount());
+        assertEquals("red_cake", cake.getCakeName());
+    }
+
+    @Test
+    public void secondCakeForSameYearIsRejected() {
+        cakeRepository.save(Cake.builder().cakeName("blue_cake").email("one-cake@test.com").createdYear(2024).build());
+
+        assertThrows(DataIntegrityViolationException.class, () -> cakeRepository.save(
+                Cake.builder().cakeName("red_cake").email("one-cake@test.com").createdYear(2024).build()));
+        cakeRepository.save(Cake.builder().cakeName("red_cake").email("one-cake@test.com").createdYear(2025).build());
+    }
 }
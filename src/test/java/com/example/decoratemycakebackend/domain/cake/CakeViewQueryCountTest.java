@@ -0,0 +1,142 @@
+package com.example.decoratemycakebackend.domain.cake;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeSummaryDto;
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewRequestDto;
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewResponseDto;
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.cake.service.CakeService;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.candle.repsository.CandleRepository;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CakeViewQueryCountTest {
+    @Autowired
+    private CakeService cakeService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CakeRepository cakeRepository;
+    @Autowired
+    private CandleRepository candleRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void cakeViewIsLoadedWithSingleStatement() {
+        // 생일 D-10으로 설정하여 캔들 목록이 포함되는 응답을 만든다.
+        LocalDate birthday = LocalDate.now().plusDays(10).minusYears(20);
+        String email = "query-count@test.com";
+        int createdYear = LocalDate.now().getYear();
+
+        Member member = memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("tester")
+                .birthday(birthday)
+                .roles(List.of("MEMBER"))
+                .build());
+
+        Cake cake = cakeRepository.save(Cake.builder()
+                .cakeName("blue_cake")
+                .email(email)
+                .member(member)
+                .createdYear(createdYear)
+                .candleCount(3)
+                .candleCreatePermission(CandleCreatePermission.ANYONE)
+                .candleViewPermission(CandleViewPermission.ANYONE)
+                .candleCountPermission(CandleCountPermission.ANYONE)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            candleRepository.save(Candle.builder()
+                    .name("yellow_candle")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .writer("writer" + i)
+                    .cake(cake)
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CakeViewResponseDto response = cakeService.getCakeAndCandles(new CakeViewRequestDto(email, createdYear));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, response.getCandleList().size());
+        assertEquals(3, response.getCandleCount());
+        assertEquals("blue_cake", response.getCakeName());
+    }
+
+    @Test
+    public void cakeHistoryIsLoadedWithSingleStatement() {
+        String email = "history-count@test.com";
+        int createdYear = LocalDate.now().getYear();
+
+        Member member = memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("tester")
+                .birthday(LocalDate.now().minusYears(20))
+                .roles(List.of("MEMBER"))
+                .build());
+
+        // 연도별 케이크 3개, 각 케이크마다 캔들 2개
+        for (int year = createdYear - 2; year <= createdYear; year++) {
+            Cake cake = cakeRepository.save(Cake.builder()
+                    .cakeName("cake" + year)
+                    .email(email)
+                    .member(member)
+                    .createdYear(year)
+                    .candleCount(2)
+                    .candleCreatePermission(CandleCreatePermission.ANYONE)
+                    .candleViewPermission(CandleViewPermission.ANYONE)
+                    .candleCountPermission(CandleCountPermission.ANYONE)
+                    .build());
+            for (int i = 0; i < 2; i++) {
+                candleRepository.save(Candle.builder()
+                        .name("yellow_candle")
+                        .title("title" + i)
+                        .writer("writer" + i)
+                        .cake(cake)
+                        .build());
+            }
+        }
+
+        // 회원 정보는 캐시에 올려둔 상태에서 케이크 조회 쿼리만 센다.
+        cakeService.getCakeSummariesByEmail(email);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        List<CakeSummaryDto> summaries = cakeService.getCakeSummariesByEmail(email);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, summaries.size());
+        assertEquals(createdYear, summaries.get(0).getCakeCreatedYear());
+        assertEquals(2, summaries.get(0).getCandleCount());
+
+        statistics.clear();
+        List<CakeViewResponseDto> cakes = cakeService.getCakesByEmail(email);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, cakes.size());
+        cakes.forEach(cake -> assertEquals(2, cake.getCandleList().size()));
+    }
+}
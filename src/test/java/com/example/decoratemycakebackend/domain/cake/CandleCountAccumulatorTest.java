@@ -0,0 +1,112 @@
+package com.example.decoratemycakebackend.domain.cake;
+
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.cake.service.CandleCountAccumulator;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.candle.repsository.CandleRepository;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.decoratemycakebackend.global.CakeFixture.saveCake;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CandleCountAccumulatorTest {
+    @Autowired
+    private CandleCountAccumulator candleCountAccumulator;
+    @Autowired
+    private CakeRepository cakeRepository;
+    @Autowired
+    private CandleRepository candleRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void concurrentAddsAndFlushesLoseNothing() throws Exception {
+        Long cakeId = saveCake(memberRepository, cakeRepository, "accumulator@test.com").getId();
+
+        // 더하는 도중에 flush가 카운터를 비우고 제거해도 증가분이 유실되지 않아야 한다.
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (adding.get()) {
+                candleCountAccumulator.flush();
+            }
+        });
+        flusher.start();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread writer = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    candleCountAccumulator.add(cakeId, 1);
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        adding.set(false);
+        flusher.join();
+        candleCountAccumulator.flush();
+
+        assertEquals(0, candleCountAccumulator.pending(cakeId));
+        assertEquals(8000, cakeRepository.findById(cakeId).orElseThrow().getCandleCount());
+    }
+
+    @Test
+    public void reconcileWaitsForCommittedCandlesToBeCounted() throws Exception {
+        Cake cake = saveCake(memberRepository, cakeRepository, "reconcile@test.com");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 캔들 3개가 커밋된 뒤 증가분이 등록되기 전 상태에서 재계산을 시작한다.
+        Thread writer = new Thread(() -> candleCountAccumulator.commitAndAdd(() -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < 3; i++) {
+                    candleRepository.save(Candle.builder().name("yellow_candle").title("title" + i).cake(cake).build());
+                }
+            });
+            committed.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Map.of(cake.getId(), 3L)));
+        writer.start();
+        assertTrue(committed.await(10, TimeUnit.SECONDS));
+
+        Thread reconciler = new Thread(candleCountAccumulator::reconcile);
+        reconciler.start();
+        reconciler.join(200);
+        assertTrue(reconciler.isAlive());
+
+        release.countDown();
+        writer.join();
+        reconciler.join();
+        candleCountAccumulator.flush();
+
+        // 재계산에 포함된 캔들이 flush에서 다시 더해지지 않아야 한다.
+        assertEquals(3, cakeRepository.findById(cake.getId()).orElseThrow().getCandleCount());
+    }
+}
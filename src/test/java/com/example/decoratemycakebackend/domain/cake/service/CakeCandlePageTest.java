@@ -0,0 +1,100 @@
+package com.example.decoratemycakebackend.domain.cake.service;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeViewRequestDto;
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.candle.dto.CandleListDto;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.candle.repsository.CandleRepository;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.util.CursorPageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.decoratemycakebackend.global.CakeFixture.saveCake;
+import static com.example.decoratemycakebackend.global.CakeFixture.saveMember;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CakeCandlePageTest {
+    @Autowired
+    private CakeService cakeService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CakeRepository cakeRepository;
+    @Autowired
+    private CandleRepository candleRepository;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void pastYearCakeIsFullyVisibleToOwnerRegardlessOfDday() {
+        // 다음 생일까지 60일 남은 회원. 올해 케이크라면 캔들이 보이지 않는 기간이다.
+        LocalDate nextBirthday = LocalDate.now().plusDays(60);
+        String email = "candle-page-past@test.com";
+        Member member = saveMember(memberRepository, email, nextBirthday.minusYears(20));
+        Cake pastCake = saveCakeWithCandles(member, nextBirthday.getYear() - 1);
+        Cake currentCake = saveCakeWithCandles(member, nextBirthday.getYear());
+        login(email);
+
+        CursorPageDto<CandleListDto> past = cakeService.getCandlePage(
+                new CakeViewRequestDto(email, pastCake.getCreatedYear()), null, null);
+        CursorPageDto<CandleListDto> current = cakeService.getCandlePage(
+                new CakeViewRequestDto(email, currentCake.getCreatedYear()), null, null);
+
+        assertEquals(2, past.getContent().size());
+        past.getContent().forEach(candle -> assertEquals("content", candle.getCandleContent()));
+        assertTrue(current.getContent().isEmpty());
+    }
+
+    @Test
+    public void pastYearCakeOfAnotherMemberKeepsTheDdayGate() {
+        // 다음 생일까지 10일 남은 회원. 주인이 아니면 지난 케이크도 이름과 작성자만 보인다.
+        LocalDate nextBirthday = LocalDate.now().plusDays(10);
+        String email = "candle-page-other@test.com";
+        Member member = saveMember(memberRepository, email, nextBirthday.minusYears(20));
+        Cake pastCake = saveCakeWithCandles(member, nextBirthday.getYear() - 1);
+        login("someone-else@test.com");
+
+        CursorPageDto<CandleListDto> past = cakeService.getCandlePage(
+                new CakeViewRequestDto(email, pastCake.getCreatedYear()), null, null);
+
+        assertEquals(2, past.getContent().size());
+        past.getContent().forEach(candle -> assertNull(candle.getCandleContent()));
+    }
+
+    private void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private Cake saveCakeWithCandles(Member member, int createdYear) {
+        Cake cake = saveCake(cakeRepository, member, createdYear);
+        for (int i = 0; i < 2; i++) {
+            candleRepository.save(Candle.builder()
+                    .name("yellow_candle")
+                    .title("title" + i)
+                    .content("content")
+                    .writer("writer" + i)
+                    .cake(cake)
+                    .build());
+        }
+        return cake;
+    }
+}
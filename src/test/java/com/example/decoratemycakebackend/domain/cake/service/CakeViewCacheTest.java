@@ -0,0 +1,138 @@
+package com.example.decoratemycakebackend.domain.cake.service;
+
+import com.example.decoratemycakebackend.domain.cake.dto.CakeView;
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.EmbeddedRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.decoratemycakebackend.global.CakeFixture.saveCake;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CakeViewCacheTest {
+    private static EmbeddedRedis redis;
+
+    @Autowired
+    private CakeRepository cakeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.flushAll();
+    }
+
+    @Test
+    public void countsHitsMissesPutsAndEvictions() {
+        Cake cake = saveCake(memberRepository, cakeRepository, "view-stats@test.com");
+        CakeViewCache cache = cache(cakeRepository);
+
+        assertEquals("blue_cake", cache.get(cake.getEmail(), cake.getCreatedYear()).getCakeName());
+        assertEquals("blue_cake", cache.get(cake.getEmail(), cake.getCreatedYear()).getCakeName());
+        cache.evictByCakeId(cake.getId());
+        cache.get(cake.getEmail(), cake.getCreatedYear());
+        cache.evict(cake.getEmail(), cake.getCreatedYear());
+
+        assertEquals(1, cache.getStats().getHits().sum());
+        assertEquals(2, cache.getStats().getMisses().sum());
+        assertEquals(2, cache.getStats().getPuts().sum());
+        assertEquals(2, cache.getStats().getEvictions().sum());
+    }
+
+    @Test
+    public void staleLoadIsNotWrittenBackAfterEviction() throws Exception {
+        Cake cake = saveCake(memberRepository, cakeRepository, "view-stale@test.com");
+        AtomicBoolean pause = new AtomicBoolean(true);
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 변경 전 행을 읽은 뒤 저장하기 전에 멈추는 저장소
+        CakeRepository pausingRepository = (CakeRepository) Proxy.newProxyInstance(
+                CakeRepository.class.getClassLoader(), new Class<?>[]{CakeRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(cakeRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findCakeViewRows") && pause.getAndSet(false)) {
+                        loaded.countDown();
+                        release.await();
+                    }
+                    return result;
+                });
+        CakeViewCache cache = cache(pausingRepository);
+
+        CompletableFuture<CakeView> staleRead = CompletableFuture.supplyAsync(
+                () -> cache.get(cake.getEmail(), cake.getCreatedYear()));
+        assertTrue(loaded.await(10, TimeUnit.SECONDS));
+
+        cake.setCakeName("red_cake");
+        cakeRepository.save(cake);
+        cache.evict(cake.getEmail(), cake.getCreatedYear());
+        release.countDown();
+
+        assertEquals("blue_cake", staleRead.get(10, TimeUnit.SECONDS).getCakeName());
+        assertEquals(0, cache.getStats().getPuts().sum());
+        assertEquals("red_cake", cache.get(cake.getEmail(), cake.getCreatedYear()).getCakeName());
+    }
+
+    @Test
+    public void evictionInsideTransactionWaitsForCommit() {
+        Cake cake = saveCake(memberRepository, cakeRepository, "view-commit@test.com");
+        CakeViewCache cache = cache(cakeRepository);
+        cache.get(cake.getEmail(), cake.getCreatedYear());
+        String key = "cake:view:" + cake.getEmail() + ":" + cake.getCreatedYear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cache.evict(cake.getEmail(), cake.getCreatedYear());
+            assertTrue(redis.redisTemplate().hasKey(key));
+        });
+
+        assertFalse(redis.redisTemplate().hasKey(key));
+        assertEquals(1, cache.getStats().getEvictions().sum());
+    }
+
+    private CakeViewCache cache(CakeRepository repository) {
+        return new CakeViewCache(redis.redisTemplate(), objectMapper, repository, new SimpleMeterRegistry(),
+                Duration.ofMinutes(10), true, Duration.ofSeconds(10));
+    }
+}
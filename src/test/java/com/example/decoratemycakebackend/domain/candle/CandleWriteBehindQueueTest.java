@@ -0,0 +1,97 @@
+package com.example.decoratemycakebackend.domain.candle;
+
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.candle.entity.Candle;
+import com.example.decoratemycakebackend.domain.candle.repsository.CandleRepository;
+import com.example.decoratemycakebackend.domain.candle.service.CandleWriteBehindQueue;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.decoratemycakebackend.global.CakeFixture.saveCake;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CandleWriteBehindQueueTest {
+    @Autowired
+    private CandleWriteBehindQueue candleWriteBehindQueue;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CakeRepository cakeRepository;
+    @Autowired
+    private CandleRepository candleRepository;
+
+    @Test
+    public void queuedCandlesArePersistedAndAcknowledged() throws Exception {
+        Cake cake = saveCake(memberRepository, cakeRepository, "write-behind@test.com");
+
+        // batch 크기보다 많은 요청을 넣어 여러 묶음으로 나뉘어 저장되도록 한다.
+        List<CompletableFuture<Long>> acks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            acks.add(candleWriteBehindQueue.submit(cake.getId(), Candle.builder()
+                    .name("yellow_candle")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .writer("writer" + i)
+                    .build()));
+        }
+
+        Set<Long> candleIds = new HashSet<>();
+        for (CompletableFuture<Long> ack : acks) {
+            Long candleId = ack.get(10, TimeUnit.SECONDS);
+            assertNotNull(candleId);
+            candleIds.add(candleId);
+        }
+
+        assertEquals(120, candleIds.size());
+        assertEquals(120, candleRepository.findAll().stream()
+                .filter(candle -> candleIds.contains(candle.getId()))
+                .count());
+    }
+
+    @Test
+    public void failedBatchIsRetriedOneByOneWithPersistedIds() throws Exception {
+        Cake cake = saveCake(memberRepository, cakeRepository, "write-behind-retry@test.com");
+
+        // 없는 케이크에 대한 요청을 섞어 묶음 insert가 외래 키 위반으로 실패하게 한다.
+        List<CompletableFuture<Long>> acks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            acks.add(candleWriteBehindQueue.submit(i % 3 == 0 ? Long.MAX_VALUE : cake.getId(), Candle.builder()
+                    .name("yellow_candle")
+                    .title("retry" + i)
+                    .content("content" + i)
+                    .writer("writer" + i)
+                    .build()));
+        }
+
+        for (int i = 0; i < acks.size(); i++) {
+            CompletableFuture<Long> ack = acks.get(i);
+            if (i % 3 == 0) {
+                assertThrows(ExecutionException.class, () -> ack.get(10, TimeUnit.SECONDS));
+                continue;
+            }
+            // 요청에 전달된 id로 실제 저장된 캔들을 찾을 수 있어야 한다.
+            Long candleId = ack.get(10, TimeUnit.SECONDS);
+            Candle saved = candleRepository.findById(candleId).orElseThrow();
+            assertEquals("retry" + i, saved.getTitle());
+        }
+        assertEquals(40, candleRepository.findAll().stream()
+                .filter(candle -> candle.getTitle().startsWith("retry"))
+                .count());
+    }
+}
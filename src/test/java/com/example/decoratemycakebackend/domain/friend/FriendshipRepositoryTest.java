@@ -0,0 +1,144 @@
+package com.example.decoratemycakebackend.domain.friend;
+
+import com.example.decoratemycakebackend.domain.friend.dto.ContactMatchDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendListResponseDto;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendRequest;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendRequestStatus;
+import com.example.decoratemycakebackend.domain.friend.entity.FriendshipId;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendBatchRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendRequestRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendshipRepository;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class FriendshipRepositoryTest {
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+    @Autowired
+    private FriendRequestRepository friendRequestRepository;
+    @Autowired
+    private FriendBatchRepository friendBatchRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    public void friendshipIsSymmetricAndIdempotent() {
+        assertEquals(FriendshipId.of(7L, 3L), FriendshipId.of(3L, 7L));
+
+        assertEquals(1, friendshipRepository.insertIfAbsent(FriendshipId.of(7L, 3L)));
+        // 반대 방향으로 다시 수락되어도 같은 행이므로 추가되지 않는다.
+        assertEquals(0, friendshipRepository.insertIfAbsent(FriendshipId.of(3L, 7L)));
+
+        assertTrue(friendshipRepository.existsById(FriendshipId.of(3L, 7L)));
+        assertTrue(friendshipRepository.existsById(FriendshipId.of(7L, 3L)));
+
+        assertEquals(1, friendshipRepository.deleteFriendship(FriendshipId.of(7L, 3L)));
+        assertFalse(friendshipRepository.existsById(FriendshipId.of(3L, 7L)));
+    }
+
+    @Test
+    public void friendPagesAreOrderedByKeyset() {
+        Member me = saveMember("me@test.com", "me", LocalDate.of(2000, 1, 1));
+        Member bora = saveMember("bora@test.com", "bora", LocalDate.of(1999, 6, 20));
+        Member ann = saveMember("ann@test.com", "ann", LocalDate.of(2001, 3, 5));
+        Member chris = saveMember("chris@test.com", "chris", LocalDate.of(1998, 12, 31));
+        for (Member friend : List.of(bora, ann, chris)) {
+            friendshipRepository.insertIfAbsent(FriendshipId.of(me.getMemberId(), friend.getMemberId()));
+        }
+
+        List<FriendListResponseDto> firstPage = friendshipRepository.findFriendPageOrderByNickname(me.getMemberId(), "", 0L, PageRequest.of(0, 2));
+        assertEquals(List.of("ann", "bora"), firstPage.stream().map(FriendListResponseDto::getNickname).toList());
+        List<FriendListResponseDto> secondPage = friendshipRepository.findFriendPageOrderByNickname(
+                me.getMemberId(), "bora", firstPage.get(1).getMemberId(), PageRequest.of(0, 2));
+        assertEquals(List.of("chris"), secondPage.stream().map(FriendListResponseDto::getNickname).toList());
+
+        // 기준일 6월 1일: 6/20 -> 12/31 -> (내년) 3/5
+        List<FriendListResponseDto> upcoming = friendshipRepository.findFriendPageOrderByUpcomingBirthday(
+                me.getMemberId(), 601, -1, 0L, PageRequest.of(0, 10));
+        assertEquals(List.of("bora", "chris", "ann"), upcoming.stream().map(FriendListResponseDto::getNickname).toList());
+    }
+
+    @Test
+    public void friendRequestTransitionsOnlyFromExpectedStatus() {
+        Member sender = saveMember("sender@test.com", "sender", LocalDate.of(2000, 1, 1));
+        Member receiver = saveMember("receiver@test.com", "receiver", LocalDate.of(2000, 2, 2));
+        friendRequestRepository.save(FriendRequest.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .status(FriendRequestStatus.PENDING)
+                .build());
+        Long senderId = sender.getMemberId();
+        Long receiverId = receiver.getMemberId();
+
+        assertEquals(1, friendRequestRepository.updateStatus(senderId, receiverId, FriendRequestStatus.PENDING, FriendRequestStatus.ACCEPTED));
+        // 수락과 거절이 겹치면 나중 요청은 반영되지 않는다.
+        assertEquals(0, friendRequestRepository.updateStatus(senderId, receiverId, FriendRequestStatus.PENDING, FriendRequestStatus.REJECTED));
+
+        // 삭제는 방향과 관계없이 수락된 요청에만 한 번 적용된다.
+        assertEquals(1, friendRequestRepository.deleteAccepted(receiverId, senderId));
+        assertEquals(0, friendRequestRepository.deleteAccepted(senderId, receiverId));
+    }
+
+    @Test
+    public void batchTransitionsReportPerItemCounts() {
+        Member me = saveMember("bulk@test.com", "bulk", LocalDate.of(2000, 1, 1));
+        Member first = saveMember("first@test.com", "first", LocalDate.of(2000, 2, 2));
+        Member second = saveMember("second@test.com", "second", LocalDate.of(2000, 3, 3));
+        Member stranger = saveMember("stranger@test.com", "stranger", LocalDate.of(2000, 4, 4));
+        for (Member sender : List.of(first, second)) {
+            friendRequestRepository.saveAndFlush(FriendRequest.builder()
+                    .sender(sender)
+                    .receiver(me)
+                    .status(FriendRequestStatus.PENDING)
+                    .build());
+        }
+        List<Long> senderIds = List.of(first.getMemberId(), stranger.getMemberId(), second.getMemberId());
+
+        int[] counts = friendBatchRepository.updateStatus(senderIds, me.getMemberId(), FriendRequestStatus.PENDING, FriendRequestStatus.ACCEPTED);
+        assertArrayEquals(new int[]{1, 0, 1}, counts);
+        assertEquals(List.of(first.getMemberId()), friendRequestRepository.findSenderIdsByReceiverId(me.getMemberId(), List.of(first.getMemberId(), stranger.getMemberId())));
+
+        friendBatchRepository.insertFriendships(List.of(FriendshipId.of(me.getMemberId(), first.getMemberId())));
+        assertTrue(friendshipRepository.existsById(FriendshipId.of(first.getMemberId(), me.getMemberId())));
+
+        assertArrayEquals(new int[]{1, 0}, friendBatchRepository.deleteAccepted(me.getMemberId(), List.of(first.getMemberId(), stranger.getMemberId())));
+    }
+
+    @Test
+    public void contactsMatchMemberEmailsIgnoringCase() {
+        Member member = saveMember("Mixed.Case@Test.com", "mixed", LocalDate.of(2000, 1, 1));
+
+        // 연락처 쪽은 소문자로 정규화되어 들어오고, 가입한 이메일은 그대로 반환된다.
+        List<ContactMatchDto> contacts = memberRepository.findContactsByLowerEmailIn(List.of("mixed.case@test.com"));
+        assertEquals(1, contacts.size());
+        assertEquals(member.getMemberId(), contacts.get(0).getMemberId());
+        assertEquals("Mixed.Case@Test.com", contacts.get(0).getEmail());
+    }
+
+    private Member saveMember(String email, String nickname, LocalDate birthday) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname(nickname)
+                .birthday(birthday)
+                .roles(List.of("MEMBER"))
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FriendAdjacencyTest {
+
+    @Test
+    public void friendIdsStaySortedAcrossResize() {
+        FriendAdjacency adjacency = new FriendAdjacency(1);
+        // 초기 용량보다 많은 회원을 넣어 재해싱 이후에도 조회되는지 확인
+        for (long memberId = 1; memberId <= 100; memberId++) {
+            adjacency.add(memberId, 1000 - memberId);
+            adjacency.add(memberId, memberId + 1000);
+        }
+        assertTrue(adjacency.add(1, 500));
+        assertFalse(adjacency.add(1, 500));
+
+        assertEquals(100, adjacency.members());
+        assertArrayEquals(new long[]{500, 999, 1001}, adjacency.get(1));
+        assertTrue(adjacency.contains(100, 900));
+        assertFalse(adjacency.contains(100, 901));
+        assertArrayEquals(FriendAdjacency.EMPTY, adjacency.get(12345));
+
+        assertTrue(adjacency.remove(1, 999));
+        assertFalse(adjacency.remove(1, 999));
+        assertArrayEquals(new long[]{500, 1001}, adjacency.get(1));
+        assertEquals(100, adjacency.edges());
+    }
+
+    @Test
+    public void fromEdgesMatchesIncrementalAdds() {
+        // (low, high) 키 순서의 친구 관계 목록
+        long[] lows = {1, 1, 2, 3, 3, 7};
+        long[] highs = {2, 9, 9, 7, 100, 9};
+        FriendAdjacency loaded = FriendAdjacency.fromEdges(lows, highs, lows.length);
+
+        FriendAdjacency expected = new FriendAdjacency(1);
+        for (int i = 0; i < lows.length; i++) {
+            expected.add(lows[i], highs[i]);
+            expected.add(highs[i], lows[i]);
+        }
+        for (long memberId : new long[]{1, 2, 3, 7, 9, 100, 4}) {
+            assertArrayEquals(expected.get(memberId), loaded.get(memberId));
+        }
+        assertArrayEquals(new long[]{1, 2, 7}, loaded.get(9));
+        assertEquals(6, loaded.members());
+        assertEquals(6, loaded.edges());
+
+        // 적재 이후의 변경도 그대로 반영된다.
+        assertTrue(loaded.add(9, 5));
+        assertArrayEquals(new long[]{1, 2, 5, 7}, loaded.get(9));
+    }
+
+    @Test
+    public void intersectionCountMatchesForMergeAndBinarySearch() {
+        assertEquals(2, FriendAdjacency.intersectionCount(new long[]{1, 3, 5, 7}, new long[]{2, 3, 4, 7}));
+        assertEquals(0, FriendAdjacency.intersectionCount(FriendAdjacency.EMPTY, new long[]{1, 2}));
+
+        // 크기 차이가 큰 경우 (이진 탐색 경로)
+        long[] large = new long[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2L;
+        }
+        assertEquals(3, FriendAdjacency.intersectionCount(new long[]{0, 3, 500, 1998}, large));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class FriendImportServiceTest {
+
+    @Test
+    public void normalizeTrimsAndLowercases() {
+        assertEquals("test.user@gmail.com", FriendImportService.normalize("  mailto:Test.User@GMail.COM "));
+        assertEquals("a@b.c", FriendImportService.normalize("a@b.c"));
+    }
+
+    @Test
+    public void normalizeRejectsNonEmails() {
+        assertNull(FriendImportService.normalize(null));
+        assertNull(FriendImportService.normalize("010-1234-5678"));
+        assertNull(FriendImportService.normalize("@gmail.com"));
+        assertNull(FriendImportService.normalize("user@"));
+        assertNull(FriendImportService.normalize("a@b@c.com"));
+        assertNull(FriendImportService.normalize("john doe@gmail.com"));
+    }
+}
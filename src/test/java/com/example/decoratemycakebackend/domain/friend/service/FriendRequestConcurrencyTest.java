@@ -0,0 +1,197 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import com.example.decoratemycakebackend.domain.friend.dto.ContactFriendStatus;
+import com.example.decoratemycakebackend.domain.friend.dto.ContactImportRequestDto;
+import com.example.decoratemycakebackend.domain.friend.dto.ContactImportResponseDto;
+import com.example.decoratemycakebackend.domain.friend.dto.FriendRequestDto;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendBatchRepository;
+import com.example.decoratemycakebackend.domain.friend.repository.FriendRequestRepository;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 친구 요청 전송은 PostgreSQL 전용 쿼리이므로 컨테이너의 PostgreSQL 에서 실행한다.
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public class FriendRequestConcurrencyTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private FriendRequestService friendRequestService;
+    @Autowired
+    private FriendImportService friendImportService;
+    @Autowired
+    private FriendRequestRepository friendRequestRepository;
+    @Autowired
+    private FriendBatchRepository friendBatchRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void crossDirectionRequestsLeaveOnePendingRequest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 30; i++) {
+                Member a = saveMember("cross-a" + i + "@test.com");
+                Member b = saveMember("cross-b" + i + "@test.com");
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                // A→B 와 B→A 를 동시에 보내면 한 쪽만 전송되고, 다른 쪽은 이미 받은 요청이 있다는 응답을 받아야 한다.
+                Future<ErrorCode> aToB = executor.submit(() -> runAs(a, barrier, () -> send(b)));
+                Future<ErrorCode> bToA = executor.submit(() -> runAs(b, barrier, () -> send(a)));
+                List<ErrorCode> results = new ArrayList<>(Arrays.asList(aToB.get(), bToA.get()));
+
+                assertEquals(1, friendRequestRepository.findPendingBetween(a.getMemberId(), List.of(b.getMemberId())).size());
+                assertEquals(1, results.stream().filter(result -> result == null).count());
+                assertEquals(1, results.stream().filter(result -> result == ErrorCode.ALREADY_RECEIVED_REQUEST).count());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void contactImportRespectsCrossDirectionRequests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 30; i++) {
+                Member a = saveMember("import-a" + i + "@test.com");
+                Member b = saveMember("import-b" + i + "@test.com");
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                // 연락처 가져오기의 일괄 요청도 단건 요청과 같은 잠금을 사용해 반대 방향 요청과 겹치지 않아야 한다.
+                Future<ErrorCode> imported = executor.submit(() -> runAs(a, barrier, () -> importContacts(b)));
+                Future<ErrorCode> sent = executor.submit(() -> runAs(b, barrier, () -> send(a)));
+                imported.get();
+                sent.get();
+
+                assertEquals(1, friendRequestRepository.findPendingBetween(a.getMemberId(), List.of(b.getMemberId())).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void batchSendAppliesTheSameGuardsAsSingleRequests() {
+        Member me = saveMember("batch-me@test.com");
+        Member reverse = saveMember("batch-reverse@test.com");
+        Member alreadySent = saveMember("batch-sent@test.com");
+        Member fresh = saveMember("batch-fresh@test.com");
+        friendRequestRepository.sendFriendRequest(reverse.getMemberId(), me.getMemberId(), null);
+        friendRequestRepository.sendFriendRequest(me.getMemberId(), alreadySent.getMemberId(), null);
+
+        List<Long> receiverIds = List.of(reverse.getMemberId(), alreadySent.getMemberId(), fresh.getMemberId());
+        Map<Long, String> results = transactionTemplate.execute(status -> {
+            friendBatchRepository.lockPairs(me.getMemberId(), receiverIds);
+            return friendBatchRepository.sendRequests(me.getMemberId(), receiverIds, "hi");
+        });
+
+        assertEquals(Map.of(reverse.getMemberId(), "REVERSE_PENDING",
+                alreadySent.getMemberId(), "PENDING",
+                fresh.getMemberId(), "SENT"), results);
+        assertFalse(friendRequestRepository.existsBySender_MemberIdAndReceiver_MemberId(me.getMemberId(), reverse.getMemberId()));
+    }
+
+    @Test
+    public void largeImportSendsEveryRequestAcrossChunks() {
+        Member me = saveMember("large-import@test.com");
+        List<String> contacts = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            contacts.add(saveMember("large-contact" + i + "@test.com").getEmail());
+        }
+
+        ContactImportRequestDto request = new ContactImportRequestDto();
+        request.setEmails(contacts);
+        request.setSendRequest(true);
+        // 한 트랜잭션의 잠금 수를 넘지 않도록 나누어 보내도 모두 전송되어야 한다.
+        ContactImportResponseDto response;
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(me.getEmail(), null, List.of()));
+        try {
+            response = friendImportService.importContacts(request);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        assertEquals(120, response.getRequestsSent());
+        assertTrue(response.getMembers().stream().allMatch(member -> member.getFriendStatus() == ContactFriendStatus.REQUEST_SENT));
+    }
+
+    private void send(Member receiver) {
+        FriendRequestDto request = new FriendRequestDto();
+        request.setReceiverEmail(receiver.getEmail());
+        friendRequestService.sendFriendRequest(request);
+    }
+
+    private void importContacts(Member contact) {
+        ContactImportRequestDto request = new ContactImportRequestDto();
+        request.setEmails(List.of(contact.getEmail()));
+        request.setSendRequest(true);
+        friendImportService.importContacts(request);
+    }
+
+    // member 로 로그인한 상태에서 두 스레드가 함께 action 을 실행. 실패하면 에러 코드를 반환
+    private ErrorCode runAs(Member member, CyclicBarrier barrier, Runnable action) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(member.getEmail(), null, List.of()));
+        try {
+            barrier.await();
+            action.run();
+            return null;
+        } catch (CustomException e) {
+            return e.getErrorCode();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private Member saveMember(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname(email.substring(0, email.indexOf('@')))
+                .birthday(LocalDate.of(2000, 1, 1))
+                .roles(List.of("MEMBER"))
+                .build());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.decoratemycakebackend.domain.friend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class FriendSuggestionServiceTest {
+
+    @Test
+    public void ranksByMutualFriendCountThenId() {
+        long me = 1L;
+        long large = 1L << 40;
+        // 친구 2, 3, 4. 나 자신과 이미 친구인 3은 제외된다.
+        long[] friends = {2L, 3L, 4L};
+        long[][] friendsOfFriends = {
+                {1L, 3L, 9L, large},
+                {1L, 2L, 7L, 9L, large},
+                {1L, 7L, 8L, 9L},
+        };
+
+        FriendSuggestionService.RankedCandidates ranked = FriendSuggestionService.rank(me, friends, friendsOfFriends, 10);
+
+        // 9는 3명, 7과 large는 2명, 8은 1명. 개수가 같으면 id가 작은 순서이며 32비트를 넘는 id도 그대로 유지된다.
+        assertArrayEquals(new long[]{9L, 7L, large, 8L}, ranked.memberIds());
+        assertArrayEquals(new int[]{3, 2, 2, 1}, ranked.mutualFriendCounts());
+    }
+
+    @Test
+    public void keepsOnlyTheTopCandidates() {
+        long[] friends = {2L, 3L};
+        long[][] friendsOfFriends = {
+                {1L, 5L, 6L, 7L},
+                {1L, 7L},
+        };
+
+        FriendSuggestionService.RankedCandidates ranked = FriendSuggestionService.rank(1L, friends, friendsOfFriends, 2);
+
+        assertArrayEquals(new long[]{7L, 5L}, ranked.memberIds());
+        assertArrayEquals(new int[]{2, 1}, ranked.mutualFriendCounts());
+    }
+}
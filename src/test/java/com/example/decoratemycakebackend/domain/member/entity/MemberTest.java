@@ -0,0 +1,37 @@
+package com.example.decoratemycakebackend.domain.member.entity;
+
+import com.example.decoratemycakebackend.global.error.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MemberTest {
+
+    @Test
+    public void changeRolesBumpsVersionOnlyWhenRolesDiffer() {
+        Member member = Member.builder()
+                .email("roles@test.com")
+                .password("password")
+                .nickname("roles")
+                .birthday(LocalDate.of(2000, 1, 1))
+                .roles(List.of("MEMBER"))
+                .build();
+
+        member.changeRoles(List.of("MEMBER", "ADMIN"));
+        assertEquals(List.of("MEMBER", "ADMIN"), member.getRoles());
+        assertEquals(1, member.getRoleVersion());
+
+        // 순서만 다른 같은 권한이면 세션이 다시 읽을 필요가 없으므로 버전을 올리지 않는다.
+        member.changeRoles(List.of("ADMIN", "MEMBER"));
+        assertEquals(1, member.getRoleVersion());
+
+        // 없는 권한이 섞이면 아무것도 바꾸지 않는다.
+        assertThrows(CustomException.class, () -> member.changeRoles(List.of("OWNER")));
+        assertEquals(List.of("MEMBER", "ADMIN"), member.getRoles());
+        assertEquals(1, member.getRoleVersion());
+    }
+}
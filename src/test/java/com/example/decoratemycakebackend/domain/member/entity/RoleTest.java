@@ -0,0 +1,30 @@
+package com.example.decoratemycakebackend.domain.member.entity;
+
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RoleTest {
+
+    @Test
+    public void masksRoundTripToNamesAndAuthorities() {
+        int mask = Role.toMask(List.of("ADMIN", "MEMBER"));
+
+        assertEquals(Role.MEMBER.bit() | Role.ADMIN.bit(), mask);
+        assertEquals(List.of("MEMBER", "ADMIN"), Role.namesOf(mask));
+        assertEquals("ROLE_MEMBER,ROLE_ADMIN", Role.authorityStringOf(mask));
+        assertEquals(0, Role.toMask(List.of()));
+        assertEquals(List.of(), Role.namesOf(0));
+    }
+
+    @Test
+    public void unknownRoleIsBadRequest() {
+        CustomException e = assertThrows(CustomException.class, () -> Role.toMask(List.of("MEMBER", "OWNER")));
+        assertEquals(ErrorCode.INVALID_ROLE, e.getErrorCode());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.decoratemycakebackend.domain.member.service;
+
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+import com.example.decoratemycakebackend.global.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class MemberServiceTest {
+    private static final EmbeddedRedis REDIS = EmbeddedRedis.start();
+
+    @DynamicPropertySource
+    static void redis(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", REDIS::port);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        REDIS.stop();
+    }
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void roleChangeIsPublishedOnlyAfterCommit() {
+        String email = "role-change@test.com";
+        String versionKey = "auth:role-version:" + email;
+        memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("roles")
+                .birthday(LocalDate.of(2000, 1, 1))
+                .roles(List.of("MEMBER"))
+                .build());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 커밋 전에는 세션이 권한 변경을 알 수 없어야 한다.
+        transactionTemplate.executeWithoutResult(status -> {
+            memberService.changeRoles(email, List.of("MEMBER", "ADMIN"));
+            assertNull(REDIS.redisTemplate().opsForValue().get(versionKey));
+        });
+        assertEquals("1", REDIS.redisTemplate().opsForValue().get(versionKey));
+
+        // 롤백된 변경은 권한 버전을 올리지 않는다.
+        transactionTemplate.executeWithoutResult(status -> {
+            memberService.changeRoles(email, List.of("MEMBER"));
+            status.setRollbackOnly();
+        });
+        assertEquals("1", REDIS.redisTemplate().opsForValue().get(versionKey));
+        assertEquals(List.of("MEMBER", "ADMIN"), memberRepository.findByEmail(email).orElseThrow().getRoles());
+    }
+}
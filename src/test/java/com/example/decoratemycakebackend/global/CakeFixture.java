@@ -0,0 +1,50 @@
+package com.example.decoratemycakebackend.global;
+
+import com.example.decoratemycakebackend.domain.cake.entity.Cake;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCountPermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleCreatePermission;
+import com.example.decoratemycakebackend.domain.cake.entity.CandleViewPermission;
+import com.example.decoratemycakebackend.domain.cake.repository.CakeRepository;
+import com.example.decoratemycakebackend.domain.member.entity.Member;
+import com.example.decoratemycakebackend.domain.member.repository.MemberRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 케이크 관련 테스트에서 공통으로 쓰는 회원과 케이크 저장 도우미.
+ * 권한은 모두 ANYONE으로 열어둔다.
+ */
+public final class CakeFixture {
+
+    private CakeFixture() {
+    }
+
+    // 스무 살 회원의 올해 케이크
+    public static Cake saveCake(MemberRepository memberRepository, CakeRepository cakeRepository, String email) {
+        Member member = saveMember(memberRepository, email, LocalDate.now().minusYears(20));
+        return saveCake(cakeRepository, member, LocalDate.now().getYear());
+    }
+
+    public static Member saveMember(MemberRepository memberRepository, String email, LocalDate birthday) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("tester")
+                .birthday(birthday)
+                .roles(List.of("MEMBER"))
+                .build());
+    }
+
+    public static Cake saveCake(CakeRepository cakeRepository, Member member, int createdYear) {
+        return cakeRepository.save(Cake.builder()
+                .cakeName("blue_cake")
+                .email(member.getEmail())
+                .member(member)
+                .createdYear(createdYear)
+                .candleCreatePermission(CandleCreatePermission.ANYONE)
+                .candleViewPermission(CandleViewPermission.ANYONE)
+                .candleCountPermission(CandleCountPermission.ANYONE)
+                .build());
+    }
+}
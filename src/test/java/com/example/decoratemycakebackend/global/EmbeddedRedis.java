@@ -0,0 +1,96 @@
+package com.example.decoratemycakebackend.global;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * Lua 스크립트처럼 실제 Redis가 필요한 테스트용 내장 Redis.
+ * RedisConfig와 같은 직렬화 설정의 RedisTemplate을 함께 만든다.
+ */
+public final class EmbeddedRedis implements AutoCloseable {
+    private final RedisServer server;
+    private final int port;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private EmbeddedRedis(RedisServer server, int port) {
+        this.server = server;
+        this.port = port;
+        this.connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        this.redisTemplate = template(connectionFactory);
+    }
+
+    public static EmbeddedRedis start() {
+        try {
+            int port = freePort();
+            RedisServer server = new RedisServer(port);
+            server.start();
+            return new EmbeddedRedis(server, port);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 연결할 수 없는 Redis를 가리키는 RedisTemplate. 장애 상황 테스트용
+    public static RedisTemplate<String, Object> unavailableTemplate() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", freePort());
+        connectionFactory.afterPropertiesSet();
+        return template(connectionFactory);
+    }
+
+    // 스프링 컨텍스트의 Redis 설정(spring.data.redis.port)에 넣을 포트
+    public int port() {
+        return port;
+    }
+
+    public RedisTemplate<String, Object> redisTemplate() {
+        return redisTemplate;
+    }
+
+    public void flushAll() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    public void stop() {
+        try {
+            server.stop();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.destroy();
+        stop();
+    }
+
+    private static RedisTemplate<String, Object> template(LettuceConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
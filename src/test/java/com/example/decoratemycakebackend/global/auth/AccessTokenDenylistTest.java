@@ -0,0 +1,143 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import com.example.decoratemycakebackend.global.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AccessTokenDenylistTest {
+    private static EmbeddedRedis redis;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void clearRedis() {
+        redis.flushAll();
+    }
+
+    @Test
+    public void overlappingRebuildsDoNotFail() throws Exception {
+        AccessTokenDenylist denylist = denylist(redis.redisTemplate());
+        denylist.revoke("revoked-jti", System.currentTimeMillis() + 60_000);
+
+        // 시작 시 적재와 주기적 재구성이 겹쳐도 예외 없이 끝나야 한다.
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> rebuilds = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                rebuilds.add(executor.submit(denylist::rebuild));
+                rebuilds.add(executor.submit(() -> denylist.revoke("jti-" + System.nanoTime(), System.currentTimeMillis() + 60_000)));
+            }
+            for (Future<?> rebuild : rebuilds) {
+                rebuild.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(denylist.ready());
+        assertTrue(denylist.isRevoked("revoked-jti"));
+        assertFalse(denylist.isRevoked("active-jti"));
+    }
+
+    @Test
+    public void rebuildBeforeTheRedisWriteKeepsTheRevokedToken() {
+        // 폐기 기록을 Redis에 쓰기 직전에 재구성이 끼어드는 저장소
+        AtomicReference<AccessTokenDenylist> target = new AtomicReference<>();
+        AtomicBoolean interleave = new AtomicBoolean(true);
+        AccessTokenDenylist denylist = denylist(interleavingTemplate(() -> {
+            if (interleave.getAndSet(false)) {
+                target.get().rebuild();
+            }
+        }));
+        target.set(denylist);
+        denylist.rebuild();
+        assertTrue(denylist.ready());
+
+        denylist.revoke("revoked-jti", System.currentTimeMillis() + 60_000);
+
+        assertFalse(interleave.get());
+        assertTrue(denylist.isRevoked("revoked-jti"));
+    }
+
+    @Test
+    public void failsOpenOnlyBeforeTheFilterIsLoaded() {
+        // 적재 전 Redis 장애: 판단할 근거가 없으므로 통과
+        AccessTokenDenylist unavailable = denylist(EmbeddedRedis.unavailableTemplate());
+        unavailable.rebuild();
+        assertFalse(unavailable.ready());
+        assertFalse(unavailable.isRevoked("any-jti"));
+
+        // 적재 후 Redis 장애: 필터에 있는 토큰은 폐기된 것으로, 없는 토큰은 Redis 없이 통과
+        try (EmbeddedRedis failing = EmbeddedRedis.start()) {
+            AccessTokenDenylist denylist = denylist(failing.redisTemplate());
+            denylist.revoke("revoked-jti", System.currentTimeMillis() + 60_000);
+            denylist.rebuild();
+            assertTrue(denylist.ready());
+
+            failing.stop();
+            assertTrue(denylist.isRevoked("revoked-jti"));
+            assertFalse(denylist.isRevoked("active-jti"));
+        }
+    }
+
+    // ZSET에 추가하기 직전에 beforeAdd를 실행하는 RedisTemplate
+    private static RedisTemplate<String, Object> interleavingTemplate(Runnable beforeAdd) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public ZSetOperations<String, Object> opsForZSet() {
+                ZSetOperations<String, Object> operations = super.opsForZSet();
+                return (ZSetOperations<String, Object>) Proxy.newProxyInstance(
+                        ZSetOperations.class.getClassLoader(), new Class<?>[]{ZSetOperations.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("add")) {
+                                beforeAdd.run();
+                            }
+                            try {
+                                return method.invoke(operations, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+        };
+        template.setConnectionFactory(redis.redisTemplate().getConnectionFactory());
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private static AccessTokenDenylist denylist(RedisTemplate<String, Object> redisTemplate) {
+        return new AccessTokenDenylist(redisTemplate, new RedisMessageListenerContainer(), new SimpleMeterRegistry(),
+                true, 1000, 0.001);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import com.example.decoratemycakebackend.global.error.CustomException;
+import com.example.decoratemycakebackend.global.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    public void rehashesWhenStoredFormatOrCostDiffers() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 10, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        try {
+            String current = encoder.encode("password");
+            assertTrue(encoder.matches("password", current));
+            assertFalse(encoder.upgradeEncoding(current));
+
+            // 비용을 올렸을 때뿐 아니라 낮췄을 때도 다시 해시한다.
+            String stronger = "{bcrypt}" + new BCryptPasswordEncoder(5).encode("password");
+            assertTrue(encoder.matches("password", stronger));
+            assertTrue(encoder.upgradeEncoding(stronger));
+
+            // bcrypt가 아닌 형식도 확인은 되고, 로그인 시 bcrypt로 바뀐다.
+            assertTrue(encoder.matches("password", "{noop}password"));
+            assertTrue(encoder.upgradeEncoding("{noop}password"));
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectsWithServiceUnavailableWhenSaturated() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(12, 1, 1, Duration.ofMillis(1), meterRegistry);
+        try {
+            // 첫 해시가 끝나기 전에 시간 초과, 이어진 요청은 대기열이 차 있어 바로 거절
+            for (int i = 0; i < 3; i++) {
+                CustomException e = assertThrows(CustomException.class, () -> encoder.encode("password"));
+                assertEquals(ErrorCode.SERVICE_UNAVAILABLE, e.getErrorCode());
+            }
+            assertEquals(3.0, meterRegistry.counter("password.hash.rejected").count());
+        } finally {
+            encoder.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.decoratemycakebackend.global.auth;
+
+import com.example.decoratemycakebackend.domain.member.entity.Role;
+import com.example.decoratemycakebackend.global.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class RefreshSessionStoreTest {
+    private static final long TTL = Duration.ofDays(14).toMillis();
+    private static final String EMAIL = "session@test.com";
+
+    private static EmbeddedRedis redis;
+    private RefreshSessionStore store;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        store = new RefreshSessionStore(redis.redisTemplate(), 3);
+    }
+
+    @Test
+    public void rotateReplacesTheCurrentToken() {
+        int member = Role.toMask(List.of("MEMBER"));
+        store.create(EMAIL, "sid", "jti-1", member, 0, "phone", TTL);
+
+        assertEquals(new RefreshSessionStore.Rotation(RefreshSessionStore.RotationStatus.ROTATED, member),
+                store.rotate(EMAIL, "sid", "jti-1", "jti-2", TTL));
+        assertEquals(new RefreshSessionStore.Rotation(RefreshSessionStore.RotationStatus.ROTATED, member),
+                store.rotate(EMAIL, "sid", "jti-2", "jti-3", TTL));
+        assertEquals(List.of("sid"), sessionIds());
+    }
+
+    @Test
+    public void reusingARotatedTokenRevokesTheSession() {
+        store.create(EMAIL, "stolen", "jti-1", Role.toMask(List.of("MEMBER")), 0, "phone", TTL);
+        store.create(EMAIL, "other", "jti-a", Role.toMask(List.of("MEMBER")), 0, "laptop", TTL);
+        store.rotate(EMAIL, "stolen", "jti-1", "jti-2", TTL);
+
+        // 이미 교체된 jti-1 이 다시 오면 세션을 폐기하고, 이후에는 최신 토큰으로도 재발급할 수 없다.
+        assertEquals(RefreshSessionStore.RotationStatus.REUSED, store.rotate(EMAIL, "stolen", "jti-1", "jti-3", TTL).status());
+        assertEquals(RefreshSessionStore.RotationStatus.NOT_FOUND, store.rotate(EMAIL, "stolen", "jti-2", "jti-4", TTL).status());
+        // 다른 기기의 세션은 그대로 유지
+        assertEquals(List.of("other"), sessionIds());
+    }
+
+    @Test
+    public void creatingBeyondTheLimitEvictsTheOldestSession() throws InterruptedException {
+        for (int i = 1; i <= 4; i++) {
+            store.create(EMAIL, "sid-" + i, "jti-" + i, Role.toMask(List.of("MEMBER")), 0, "device-" + i, TTL);
+            // 생성 시각으로 가장 오래된 세션을 고르므로 밀리초가 겹치지 않게 한다.
+            Thread.sleep(2);
+        }
+
+        assertEquals(List.of("sid-4", "sid-3", "sid-2"), sessionIds());
+        assertEquals(RefreshSessionStore.RotationStatus.NOT_FOUND, store.rotate(EMAIL, "sid-1", "jti-1", "jti-x", TTL).status());
+    }
+
+    @Test
+    public void expiredSessionIsRejectedAndPurged() throws InterruptedException {
+        // 키 TTL은 가장 늦게 끝나는 세션을 따르므로, 만료된 세션의 필드가 남아 있어도 스크립트가 거절해야 한다.
+        store.create(EMAIL, "long", "jti-long", Role.toMask(List.of("MEMBER")), 0, "laptop", TTL);
+        store.create(EMAIL, "short", "jti-short", Role.toMask(List.of("MEMBER")), 0, "phone", 1);
+        Thread.sleep(5);
+
+        assertEquals(RefreshSessionStore.RotationStatus.NOT_FOUND, store.rotate(EMAIL, "short", "jti-short", "jti-new", TTL).status());
+        assertFalse(redis.redisTemplate().opsForHash().hasKey("refresh:session:" + EMAIL, "short"));
+        assertEquals(List.of("long"), sessionIds());
+    }
+
+    @Test
+    public void rotationReportsRoleChangeOnceUntilSessionIsUpdated() {
+        int member = Role.toMask(List.of("MEMBER"));
+        int admin = Role.toMask(List.of("MEMBER", "ADMIN"));
+        store.create(EMAIL, "sid", "jti-1", member, 0, "phone", TTL);
+
+        // 권한 변경 전에는 저장된 권한으로 교체
+        assertEquals(new RefreshSessionStore.Rotation(RefreshSessionStore.RotationStatus.ROTATED, member),
+                store.rotate(EMAIL, "sid", "jti-1", "jti-2", TTL));
+
+        // 권한 버전이 바뀌면 DB에서 다시 읽도록 알리고, 세션에 반영한 뒤에는 다시 알리지 않는다.
+        store.updateRoleVersion(EMAIL, 1);
+        assertEquals(RefreshSessionStore.RotationStatus.ROLES_CHANGED, store.rotate(EMAIL, "sid", "jti-2", "jti-3", TTL).status());
+        store.updateRoles(EMAIL, "sid", admin, 1);
+        assertEquals(new RefreshSessionStore.Rotation(RefreshSessionStore.RotationStatus.ROTATED, admin),
+                store.rotate(EMAIL, "sid", "jti-3", "jti-4", TTL));
+        assertEquals("phone", store.findAll(EMAIL).get(0).deviceName());
+    }
+
+    @Test
+    public void roleVersionNeverMovesBackwards() {
+        store.updateRoleVersion(EMAIL, 3);
+        // 늦게 도착한 이전 변경의 알림은 무시
+        store.updateRoleVersion(EMAIL, 2);
+        assertEquals("3", redis.redisTemplate().opsForValue().get("auth:role-version:" + EMAIL));
+    }
+
+    private List<String> sessionIds() {
+        return store.findAll(EMAIL).stream().map(RefreshSessionStore.RefreshSession::sessionId).toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.decoratemycakebackend.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterTest {
+
+    @Test
+    public void addedKeysAreAlwaysFoundAndFalsePositivesStayLow() {
+        BloomFilter filter = new BloomFilter(10000, 0.001);
+        String[] added = new String[10000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = UUID.randomUUID().toString();
+            filter.put(added[i]);
+        }
+        for (String key : added) {
+            assertTrue(filter.mightContain(key));
+        }
+
+        // 설정한 오탐률 0.1%에 여유를 두고 확인
+        int falsePositives = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 500, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.decoratemycakebackend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BirthdayUtilTest {
+
+    @Test
+    public void nextBirthdayOfLeapDayFallsOnFeb28InCommonYears() {
+        LocalDate leapDay = LocalDate.of(2000, 2, 29);
+
+        assertEquals(LocalDate.of(2025, 2, 28), BirthdayUtil.getNextBirthday(LocalDate.of(2025, 1, 10), leapDay));
+        // 2025년 생일이 지나면 다음 해인 윤년 2028년이 아니라 2026년 2월 28일
+        assertEquals(LocalDate.of(2026, 2, 28), BirthdayUtil.getNextBirthday(LocalDate.of(2025, 3, 1), leapDay));
+        assertEquals(LocalDate.of(2028, 2, 29), BirthdayUtil.getNextBirthday(LocalDate.of(2027, 12, 31), leapDay));
+    }
+
+    @Test
+    public void birthdayTodayMovesToNextYear() {
+        LocalDate birthday = LocalDate.of(1999, 5, 17);
+
+        assertEquals(LocalDate.of(2025, 5, 17), BirthdayUtil.getNextBirthday(LocalDate.of(2025, 5, 16), birthday));
+        assertEquals(LocalDate.of(2026, 5, 17), BirthdayUtil.getNextBirthday(LocalDate.of(2025, 5, 17), birthday));
+        assertEquals(517, BirthdayUtil.toMonthDay(birthday));
+    }
+}